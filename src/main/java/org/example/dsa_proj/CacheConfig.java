@@ -0,0 +1,71 @@
+package org.example.dsa_proj;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+
+/**
+ * Hibernate second-level cache regions.
+ *
+ * Every region is declared here with an entry limit (least recently used
+ * entries are evicted past it) and a time to live, and Hibernate is set to
+ * fail at startup if an entity or query names a region that is not listed.
+ * The update timestamps region never expires: it is what makes a cached
+ * query result stale once its table is written.
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String ROOM_REGION = "rooms";
+    public static final String ADMIN_REGION = "admins";
+    public static final String ROOM_QUERY_REGION = "room-queries";
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${cache.rooms.max-entries:5000}") long roomEntries,
+            @Value("${cache.rooms.ttl-seconds:600}") long roomTtl,
+            @Value("${cache.admins.max-entries:100}") long adminEntries,
+            @Value("${cache.admins.ttl-seconds:3600}") long adminTtl,
+            @Value("${cache.room-queries.max-entries:100}") long queryEntries,
+            @Value("${cache.room-queries.ttl-seconds:60}") long queryTtl) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider)
+                Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        org.ehcache.config.Configuration regions = ConfigurationBuilder.newConfigurationBuilder()
+                .withCache(ROOM_REGION, region(roomEntries, roomTtl))
+                .withCache(ADMIN_REGION, region(adminEntries, adminTtl))
+                .withCache(ROOM_QUERY_REGION, region(queryEntries, queryTtl))
+                .withCache(QUERY_RESULTS_REGION, region(queryEntries, queryTtl))
+                .withCache(UPDATE_TIMESTAMPS_REGION, CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                        Object.class, Object.class, ResourcePoolsBuilder.heap(1000)))
+                .build();
+        return provider.getCacheManager(provider.getDefaultURI(), regions);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CacheConfigurationBuilder<Object, Object> region(long maxEntries, long ttlSeconds) {
+        return CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                        Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ttlSeconds)));
+    }
+}
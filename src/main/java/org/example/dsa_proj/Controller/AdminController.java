@@ -3,14 +3,21 @@ package org.example.dsa_proj.Controller;
 import org.example.dsa_proj.Models.*;
 import org.example.dsa_proj.Service.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -40,6 +47,27 @@ public class AdminController {
     @Autowired
     private waitlistservice waitlistService;
 
+    @Autowired
+    private AllocationService allocationService;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private CompatibilityTopKIndex topKIndex;
+
+    @Autowired
+    private InterestIndex interestIndex;
+
+    @Autowired
+    private HibernateCacheService cacheService;
+
+    @Autowired
+    private StudentImportService importService;
+
+    @Autowired
+    private WaitlistAgingService agingService;
+
     /**
      * Admin login page
      */
@@ -79,34 +107,20 @@ public class AdminController {
     @GetMapping("/dashboard")
     public String adminDashboard(Model model) {
         try {
-            // Get comprehensive statistics
-            List<Student> students = studentService.getAllStudents();
-            List<Room> rooms = roomService.getAllRooms();
-            List<WaitList> waitlist = waitlistService.getAll();
-            
-            // Student statistics
-            long totalStudents = students.size();
-            long allocatedStudents = students.stream().filter(Student::isAllocated).count();
-            long waitingStudents = students.stream().filter(Student::isWaiting).count();
-            
-            // Room statistics
-            long totalRooms = rooms.size();
-            long availableRooms = rooms.stream().filter(Room::hasAvailableSpace).count();
-            long fullRooms = rooms.stream().filter(Room::isFull).count();
-            
-            // Add all data to model
-            model.addAttribute("totalStudents", totalStudents);
-            model.addAttribute("allocatedStudents", allocatedStudents);
-            model.addAttribute("waitingStudents", waitingStudents);
-            model.addAttribute("totalRooms", totalRooms);
-            model.addAttribute("availableRooms", availableRooms);
-            model.addAttribute("fullRooms", fullRooms);
-            model.addAttribute("waitlistSize", waitlist.size());
-            
-            // Recent data for quick access
-            model.addAttribute("recentStudents", students.stream().limit(10).toArray());
-            model.addAttribute("recentRooms", rooms.stream().limit(10).toArray());
-            
+            // Counts come from aggregate queries; only the recent rows are loaded
+            StatisticsService.DashboardStatistics stats = statisticsService.getDashboardStatistics();
+
+            model.addAttribute("totalStudents", stats.getTotalStudents());
+            model.addAttribute("allocatedStudents", stats.getAllocatedStudents());
+            model.addAttribute("waitingStudents", stats.getWaitingStudents());
+            model.addAttribute("totalRooms", stats.getTotalRooms());
+            model.addAttribute("availableRooms", stats.getAvailableRooms());
+            model.addAttribute("fullRooms", stats.getFullRooms());
+            model.addAttribute("waitlistSize", stats.getWaitlistSize());
+
+            model.addAttribute("recentStudents", statisticsService.getRecentStudents(10).toArray());
+            model.addAttribute("recentRooms", statisticsService.getRecentRooms(10).toArray());
+
             return "admin/dashboard";
             
         } catch (Exception e) {
@@ -116,16 +130,29 @@ public class AdminController {
     }
 
     /**
-     * Student management page
+     * Student management page, one keyset page of students at a time
      */
     @GetMapping("/students")
-    public String manageStudents(Model model) {
-        List<Student> students = studentService.getAllStudents();
-        List<Room> availableRooms = roomService.getAllRooms().stream()
+    public String manageStudents(@RequestParam(required = false) Long after,
+                                 @RequestParam(required = false) StudentStatus status,
+                                 @RequestParam(required = false) String block,
+                                 @RequestParam(required = false) RoomType roomType,
+                                 @RequestParam(defaultValue = "50") int size,
+                                 Model model) {
+        Slice<StudentRow> students = studentService.getStudentPage(after, status,
+            roomType == null ? null : roomType.getLabel(), block, size);
+        // Allocation choices: the first page of rooms open for allocation in the filtered block / type
+        List<Room> availableRooms = roomService.getRoomPage(null, RoomStatus.AVAILABLE, block, roomType, 200).stream()
             .filter(Room::hasAvailableSpace)
             .collect(Collectors.toList());
         
-        model.addAttribute("students", students);
+        model.addAttribute("students", students.getContent());
+        model.addAttribute("nextAfter", students.hasNext()
+            ? students.getContent().get(students.getNumberOfElements() - 1).getStudentId() : null);
+        model.addAttribute("status", status);
+        model.addAttribute("block", block);
+        model.addAttribute("roomType", roomType);
+        model.addAttribute("size", size);
         model.addAttribute("availableRooms", availableRooms);
         model.addAttribute("newStudent", new Student());
         
@@ -156,6 +183,21 @@ public class AdminController {
         return "redirect:/admin/students";
     }
 
+    /**
+     * Bulk import students, each with their preferences and a waitlist entry, from a CSV upload
+     * @param file CSV with a header row; see StudentImportService for the columns
+     * @return counts and the line and reason of each rejected row
+     */
+    @PostMapping("/students/import")
+    @ResponseBody
+    public StudentImportReport importStudents(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return importService.importCsv(in);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     /**
      * Edit student form
      */
@@ -176,6 +218,43 @@ public class AdminController {
         return "admin/edit-student";
     }
 
+    /**
+     * Current roommate suggestions for a waiting student, read from the top-K index
+     */
+    @GetMapping("/students/{id}/suggestions")
+    @ResponseBody
+    public List<CompatibilityTopKIndex.Candidate> studentSuggestions(@PathVariable Long id) {
+        return topKIndex.getTop(id);
+    }
+
+    /**
+     * IDs of students who listed all of the given interests
+     */
+    @GetMapping("/students/interests")
+    @ResponseBody
+    public List<Long> studentsByInterest(@RequestParam String q) {
+        return interestIndex.findStudentsWhoLike(q);
+    }
+
+    /**
+     * Students whose interests are most similar to a student's
+     */
+    @GetMapping("/students/{id}/similar-interests")
+    @ResponseBody
+    public List<InterestIndex.Match> similarInterests(@PathVariable Long id,
+                                                      @RequestParam(defaultValue = "10") int limit) {
+        return interestIndex.findSimilar(id, limit);
+    }
+
+    /**
+     * Second-level cache hits, misses and puts per region
+     */
+    @GetMapping("/cache/stats")
+    @ResponseBody
+    public Map<String, Map<String, Long>> cacheStatistics() {
+        return cacheService.getStatistics();
+    }
+
     /**
      * Update student
      */
@@ -269,9 +348,9 @@ public class AdminController {
         }
         
         try {
-            // Note: Implement room saving in RoomService
+            roomService.saveRoom(room);
             redirectAttributes.addFlashAttribute("success", 
-                "Room functionality needs to be implemented in RoomService");
+                "Room " + room.getRoomNumber() + " added successfully!");
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", 
                 "Error adding room: " + e.getMessage());
@@ -280,6 +359,81 @@ public class AdminController {
         return "redirect:/admin/rooms";
     }
 
+    /**
+     * Open a new block: create its rooms from the template, then allocate
+     * waiting students into them
+     */
+    @PostMapping("/rooms/provision")
+    public String provisionBlock(@ModelAttribute BlockTemplate template,
+                                 RedirectAttributes redirectAttributes) {
+        try {
+            List<Room> rooms = roomService.provisionBlock(template);
+            int beds = rooms.stream().mapToInt(Room::getCapacity).sum();
+            BatchWriteReport report = allocationService.allocateIntoRooms(rooms);
+            redirectAttributes.addFlashAttribute("success",
+                "Block " + rooms.get(0).getHostelBlock() + " opened with " + rooms.size() + " rooms ("
+                    + beds + " beds) - " + (report.getTotalRows() > 0
+                        ? "allocated " + report.getSummary()
+                        : "no waiting students for these room types"));
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("error", "Cannot provision block: " + e.getMessage());
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error",
+                "Error provisioning block: " + e.getMessage());
+        }
+
+        return "redirect:/admin/dashboard";
+    }
+
+    /**
+     * Run batch allocation for a room type
+     */
+    @PostMapping("/allocate/batch")
+    public String allocateBatch(@RequestParam RoomType roomType,
+                              @RequestParam(defaultValue = "fill") String strategy,
+                              RedirectAttributes redirectAttributes) {
+        try {
+            BatchWriteReport report;
+            String scope = roomType.getLabel();
+            if ("global".equals(strategy)) {
+                report = allocationService.allocateGlobally();
+                scope = "all room types";
+            } else if ("pairing".equals(strategy)) {
+                report = allocationService.allocateRoomsByPairing(roomType);
+            } else if ("groups".equals(strategy)) {
+                report = allocationService.allocateRoomsByGroups(roomType);
+            } else if ("compatibility".equals(strategy)) {
+                report = allocationService.allocateRoomsByCompatibility(roomType);
+            } else {
+                report = allocationService.allocateRoomsBatch(roomType);
+            }
+            redirectAttributes.addFlashAttribute("success",
+                "Batch allocation for " + scope + " completed - " + report.getSummary());
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error",
+                "Error running batch allocation: " + e.getMessage());
+        }
+
+        return "redirect:/admin/dashboard";
+    }
+
+    /**
+     * Recompute every waitlist priority from waiting time and year, resetting manual changes
+     */
+    @PostMapping("/waitlist/age")
+    public String ageWaitlist(RedirectAttributes redirectAttributes) {
+        try {
+            BatchWriteReport report = agingService.ageScores();
+            redirectAttributes.addFlashAttribute("success",
+                "Waitlist priorities recalculated - " + report.getSummary());
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error",
+                "Error updating waitlist priorities: " + e.getMessage());
+        }
+
+        return "redirect:/admin/dashboard";
+    }
+
     /**
      * Waitlist management
      */
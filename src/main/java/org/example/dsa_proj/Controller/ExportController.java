@@ -0,0 +1,82 @@
+package org.example.dsa_proj.Controller;
+
+import org.example.dsa_proj.Service.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
+
+/**
+ * Export Controller
+ *
+ * Download endpoints for the accounts office. Each response is a
+ * StreamingResponseBody: rows are written to the socket as the database
+ * cursor yields them, on an async thread, so no export is held in memory.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Controller
+@RequestMapping("/admin/export")
+public class ExportController {
+
+    @Autowired
+    private ExportService exportService;
+
+    /**
+     * Students with their allocated room
+     * @param format csv (default) or ndjson
+     */
+    @GetMapping("/students")
+    public ResponseEntity<StreamingResponseBody> exportStudents(@RequestParam(defaultValue = "csv") String format) {
+        ExportService.Format f = parseFormat(format);
+        return download("students", f, out -> exportService.writeStudents(f, out));
+    }
+
+    /**
+     * Rooms with capacity and occupancy
+     * @param format csv (default) or ndjson
+     */
+    @GetMapping("/rooms")
+    public ResponseEntity<StreamingResponseBody> exportRooms(@RequestParam(defaultValue = "csv") String format) {
+        ExportService.Format f = parseFormat(format);
+        return download("rooms", f, out -> exportService.writeRooms(f, out));
+    }
+
+    /**
+     * Every allocation and deallocation record, oldest first
+     * @param format csv (default) or ndjson
+     */
+    @GetMapping("/history")
+    public ResponseEntity<StreamingResponseBody> exportHistory(@RequestParam(defaultValue = "csv") String format) {
+        ExportService.Format f = parseFormat(format);
+        return download("allocation-history", f, out -> exportService.writeAllocationHistory(f, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> download(String name, ExportService.Format format,
+                                                                  StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + name + "." + format.getExtension() + "\"")
+                .body(body);
+    }
+
+    private static ExportService.Format parseFormat(String format) {
+        try {
+            return ExportService.Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Unsupported export format: " + format + " (use csv or ndjson)");
+        }
+    }
+}
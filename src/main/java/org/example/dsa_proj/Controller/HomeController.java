@@ -1,13 +1,13 @@
 package org.example.dsa_proj.Controller;
 
-import org.example.dsa_proj.Models.*;
 import org.example.dsa_proj.Service.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
-
-import java.util.List;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Home Controller
@@ -23,13 +23,10 @@ import java.util.List;
 public class HomeController {
 
     @Autowired
-    private StudentService studentService;
-    
-    @Autowired
-    private RoomService roomService;
-    
+    private StatisticsService statisticsService;
+
     @Autowired
-    private waitlistservice waitlistService;
+    private DashboardStreamService dashboardStreamService;
 
     /**
      * Root URL handler - redirects to dashboard
@@ -48,33 +45,17 @@ public class HomeController {
     @GetMapping("/dashboard")
     public String dashboard(Model model) {
         try {
-            // Get basic statistics
-            List<Student> students = studentService.getAllStudents();
-            List<Room> rooms = roomService.getAllRooms();
-            List<WaitList> waitlist = waitlistService.getAll();
-            
-            // Calculate statistics
-            long totalStudents = students.size();
-            long allocatedStudents = students.stream().filter(Student::isAllocated).count();
-            long waitingStudents = students.stream().filter(Student::isWaiting).count();
-            
-            long totalRooms = rooms.size();
-            long availableRooms = rooms.stream().filter(Room::hasAvailableSpace).count();
-            long fullRooms = rooms.stream().filter(Room::isFull).count();
-            
-            // Add statistics to model
-            model.addAttribute("totalStudents", totalStudents);
-            model.addAttribute("allocatedStudents", allocatedStudents);
-            model.addAttribute("waitingStudents", waitingStudents);
-            model.addAttribute("totalRooms", totalRooms);
-            model.addAttribute("availableRooms", availableRooms);
-            model.addAttribute("fullRooms", fullRooms);
-            model.addAttribute("waitlistSize", waitlist.size());
-            
-            // Recent students and rooms for display
-            model.addAttribute("recentStudents", students.stream().limit(5).toArray());
-            model.addAttribute("recentRooms", rooms.stream().limit(5).toArray());
-            
+            // Counts come from the in-process counters; this page renders no rows
+            StatisticsService.DashboardStatistics stats = statisticsService.getDashboardStatistics();
+
+            model.addAttribute("totalStudents", stats.getTotalStudents());
+            model.addAttribute("allocatedStudents", stats.getAllocatedStudents());
+            model.addAttribute("waitingStudents", stats.getWaitingStudents());
+            model.addAttribute("totalRooms", stats.getTotalRooms());
+            model.addAttribute("availableRooms", stats.getAvailableRooms());
+            model.addAttribute("fullRooms", stats.getFullRooms());
+            model.addAttribute("waitlistSize", stats.getWaitlistSize());
+
             return "dashboard";
             
         } catch (Exception e) {
@@ -84,6 +65,16 @@ public class HomeController {
         }
     }
 
+    /**
+     * Live dashboard updates as Server-Sent Events, used by both dashboards
+     * @return emitter that stays open until the client disconnects or times out
+     */
+    @GetMapping(value = "/dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter dashboardStream() {
+        return dashboardStreamService.subscribe();
+    }
+
     /**
      * Alternative entry points for different sections
      */
@@ -3,11 +3,16 @@ package org.example.dsa_proj.Controller;
 import org.example.dsa_proj.Models.*;
 import org.example.dsa_proj.Service.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Controller
 @RequestMapping("/hostel")
@@ -28,34 +33,104 @@ public class HostelController {
     @Autowired
     private waitlistservice waitlistService;
 
-    // 🏠 Homepage - show all rooms
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private WaitlistPositionService positionService;
+
+    // 🏠 Homepage - rooms, one keyset page at a time
     @GetMapping("/rooms")
-    public String showRooms(Model model) {
-        List<Room> rooms = roomService.getAllRooms();
-        model.addAttribute("rooms", rooms);
+    public String showRooms(@RequestParam(required = false) Long after,
+                            @RequestParam(required = false) RoomStatus status,
+                            @RequestParam(required = false) String block,
+                            @RequestParam(required = false) RoomType roomType,
+                            @RequestParam(defaultValue = "50") int size,
+                            Model model) {
+        Slice<Room> page = roomService.getRoomPage(after, status, block, roomType, size);
+        model.addAttribute("rooms", page.getContent());
+        model.addAttribute("nextAfter", page.hasNext() ? lastOf(page).getRoomId() : null);
+        model.addAttribute("listUrl", "/hostel/rooms");
+        addFilters(model, status, block, roomType, size);
         return "rooms";
     }
 
-    // 👨‍🎓 Show all students
+    // 👨‍🎓 Students, one keyset page at a time
     @GetMapping("/students")
-    public String showStudents(Model model) {
-        List<Student> students = studentService.getAllStudents();
-        model.addAttribute("students", students);
+    public String showStudents(@RequestParam(required = false) Long after,
+                               @RequestParam(required = false) StudentStatus status,
+                               @RequestParam(required = false) String block,
+                               @RequestParam(required = false) RoomType roomType,
+                               @RequestParam(defaultValue = "50") int size,
+                               Model model) {
+        Slice<StudentRow> page = studentService.getStudentPage(after, status,
+                roomType == null ? null : roomType.getLabel(), block, size);
+        model.addAttribute("students", page.getContent());
+        model.addAttribute("nextAfter", page.hasNext() ? lastOf(page).getStudentId() : null);
+        addFilters(model, status, block, roomType, size);
+
+        // Footer counts cover every student, not just this page
+        StatisticsService.DashboardStatistics stats = statisticsService.getDashboardStatistics();
+        model.addAttribute("totalStudents", stats.getTotalStudents());
+        model.addAttribute("allocatedCount", statisticsService.getStudentCount(StudentStatus.ALLOCATED));
+        model.addAttribute("waitingCount", statisticsService.getStudentCount(StudentStatus.WAITING));
+        model.addAttribute("processingCount", statisticsService.getStudentCount(StudentStatus.PROCESSING_ALLOCATION));
         return "students";
     }
 
-    // 🕒 Waitlist page
+    // 🕒 Waitlist page in queue order, keyed by (priority key, entry ID)
     @GetMapping("/waitlist")
-    public String showWaitlist(Model model) {
-        List<WaitList> waitlist = waitlistService.getAll();
-        model.addAttribute("waitlist", waitlist);
+    public String showWaitlist(@RequestParam(required = false) Double afterKey,
+                               @RequestParam(required = false) Long afterId,
+                               @RequestParam(required = false) RoomType roomType,
+                               @RequestParam(defaultValue = "0") int rank,
+                               @RequestParam(defaultValue = "50") int size,
+                               Model model) {
+        Slice<WaitlistRow> page = waitlistService.getPage(afterKey, afterId, roomType, size);
+        model.addAttribute("waitlist", page.getContent());
+        if (page.hasNext()) {
+            WaitlistRow last = lastOf(page);
+            model.addAttribute("nextAfterKey", last.getPriorityKey());
+            model.addAttribute("nextAfterId", last.getWaitId());
+        }
+        // Queue position of the first row on this page
+        model.addAttribute("rank", rank);
+        model.addAttribute("nextRank", rank + page.getNumberOfElements());
+        model.addAttribute("roomType", roomType);
+        model.addAttribute("size", size);
+        model.addAttribute("summary", statisticsService.getWaitlistSummary(30));
         return "waitlist";
     }
 
+    // 📍 A student's queue position and estimated wait, as JSON; answered from memory,
+    // and browsers may reuse it for 30 seconds so refreshing the page does not hit the server
+    @GetMapping("/waitlist/position/{studentId}")
+    @ResponseBody
+    public ResponseEntity<WaitlistPositionService.Estimate> waitlistPosition(@PathVariable Long studentId) {
+        WaitlistPositionService.Estimate estimate = positionService.estimate(studentId);
+        if (estimate == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Student is not on the waitlist");
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(30, TimeUnit.SECONDS).cachePrivate())
+                .body(estimate);
+    }
+
     // 🧩 Room Allocation UI handler
     @PostMapping("/allocate")
     public String allocateRoom(@RequestParam Long studentId, @RequestParam String roomType) {
         studentService.allocateRoom(studentId, roomType);
         return "redirect:/hostel/students";
     }
+
+    private static <T> T lastOf(Slice<T> page) {
+        return page.getContent().get(page.getNumberOfElements() - 1);
+    }
+
+    private static void addFilters(Model model, Object status, String block, RoomType roomType, int size) {
+        model.addAttribute("status", status);
+        model.addAttribute("block", block);
+        model.addAttribute("roomType", roomType);
+        model.addAttribute("size", size);
+    }
 }
@@ -1,13 +1,15 @@
 package org.example.dsa_proj.Controller;
 
 import org.example.dsa_proj.Models.Room;
+import org.example.dsa_proj.Models.RoomStatus;
+import org.example.dsa_proj.Models.RoomType;
 import org.example.dsa_proj.Service.RoomService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
-
-import java.util.List;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Controller
 public class LC {
@@ -16,15 +18,22 @@ public class LC {
     private RoomService roomService;
 
     @GetMapping("/rooms")
-    public String showRooms(Model model) {
-        List<Room> rooms = roomService.getAllRooms();
-
-        System.out.println("DEBUG: Rooms fetched = " + rooms.size());
-        for (Room r : rooms) {
-            System.out.println("Room: " + r.getRoomNumber() + " - " + r.getStatus());
-        }
-
-        model.addAttribute("rooms", rooms);
+    public String showRooms(@RequestParam(required = false) Long after,
+                            @RequestParam(required = false) RoomStatus status,
+                            @RequestParam(required = false) String block,
+                            @RequestParam(required = false) RoomType roomType,
+                            @RequestParam(defaultValue = "50") int size,
+                            Model model) {
+        Slice<Room> rooms = roomService.getRoomPage(after, status, block, roomType, size);
+
+        model.addAttribute("rooms", rooms.getContent());
+        model.addAttribute("nextAfter", rooms.hasNext()
+                ? rooms.getContent().get(rooms.getNumberOfElements() - 1).getRoomId() : null);
+        model.addAttribute("listUrl", "/rooms");
+        model.addAttribute("status", status);
+        model.addAttribute("block", block);
+        model.addAttribute("roomType", roomType);
+        model.addAttribute("size", size);
         return "rooms";
     }
 
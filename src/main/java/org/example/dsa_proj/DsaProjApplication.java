@@ -2,8 +2,10 @@ package org.example.dsa_proj;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class DsaProjApplication {
 
     public static void main(String[] args) {
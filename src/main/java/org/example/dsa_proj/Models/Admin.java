@@ -6,6 +6,9 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.example.dsa_proj.CacheConfig;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -20,6 +23,8 @@ import java.time.LocalDateTime;
  * @since 2024
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.ADMIN_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -32,7 +37,8 @@ import java.time.LocalDateTime;
 public class Admin {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "system_admins_seq")
+    @SequenceGenerator(name = "system_admins_seq", sequenceName = "system_admins_seq", allocationSize = 50)
     @Column(name = "admin_id")
     private Long adminId;
 
@@ -33,7 +33,8 @@ import java.time.LocalDate;
 public class AllocationHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "allocation_history_seq")
+    @SequenceGenerator(name = "allocation_history_seq", sequenceName = "allocation_history_seq", allocationSize = 50)
     @Column(name = "allocation_id")
     private Long allocationId;
 
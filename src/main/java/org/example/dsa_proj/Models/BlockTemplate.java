@@ -0,0 +1,140 @@
+package org.example.dsa_proj.Models;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.*;
+
+/**
+ * Block Template
+ *
+ * Layout of a new hostel block, bound from the provisioning form: the block
+ * letter, number of floors, rooms per floor and the mix of room types on each
+ * floor. Rooms are numbered block + floor + position, e.g. D101..D120 on the
+ * first floor of block D, so a block holds at most 9 floors of 99 rooms.
+ *
+ * The type mix is a list of weights such as "Single:1,Double:3,Triple:1";
+ * every floor gets the same split, largest remainder first, laid out in the
+ * order given. Beds per room default to the type (Single 1 .. Quad 4) and can
+ * be overridden per type the same way, e.g. "Triple:2".
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BlockTemplate {
+
+    private String hostelBlock;
+    private int floors = 1;
+    private int roomsPerFloor = 10;
+    private String typeMix = "Double:1";
+    private String capacities;
+
+    /**
+     * Generate the block's rooms, empty and Available
+     * @return rooms in room number order
+     * @throws IllegalArgumentException if the template is out of range or the mix is malformed
+     */
+    public List<Room> toRooms() {
+        String block = hostelBlock == null ? "" : hostelBlock.trim().toUpperCase(Locale.ROOT);
+        if (!block.matches("^[A-Z]$")) {
+            throw new IllegalArgumentException("Hostel block must be a single letter");
+        }
+        if (floors < 1 || floors > 9) {
+            throw new IllegalArgumentException("Floors must be between 1 and 9");
+        }
+        if (roomsPerFloor < 1 || roomsPerFloor > 99) {
+            throw new IllegalArgumentException("Rooms per floor must be between 1 and 99");
+        }
+        Map<RoomType, Integer> weights = parse(typeMix, "Type mix");
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Type mix needs at least one room type");
+        }
+        Map<RoomType, Integer> beds = new EnumMap<>(RoomType.class);
+        for (RoomType type : RoomType.values()) beds.put(type, type.getDefaultCapacity());
+        if (capacities != null && !capacities.isBlank()) {
+            parse(capacities, "Capacities").forEach((type, capacity) -> {
+                if (capacity > 4) throw new IllegalArgumentException("A room holds at most 4 beds");
+                beds.put(type, capacity);
+            });
+        }
+
+        List<RoomType> floorLayout = floorLayout(weights);
+        List<Room> rooms = new ArrayList<>(floors * roomsPerFloor);
+        for (int floor = 1; floor <= floors; floor++) {
+            for (int position = 1; position <= roomsPerFloor; position++) {
+                RoomType type = floorLayout.get(position - 1);
+                Room room = new Room();
+                room.setRoomNumber(String.format("%s%d%02d", block, floor, position));
+                room.setHostelBlock(block);
+                room.setRoomType(type);
+                room.setCapacity(beds.get(type));
+                room.setOccupancy(0);
+                room.setStatus(RoomStatus.AVAILABLE);
+                rooms.add(room);
+            }
+        }
+        return rooms;
+    }
+
+    /**
+     * Room type of each position on a floor, split by weight with the largest remainder method
+     */
+    private List<RoomType> floorLayout(Map<RoomType, Integer> weights) {
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        Map<RoomType, Integer> counts = new LinkedHashMap<>();
+        List<RoomType> byRemainder = new ArrayList<>(weights.keySet());
+        int assigned = 0;
+        for (Map.Entry<RoomType, Integer> e : weights.entrySet()) {
+            int count = roomsPerFloor * e.getValue() / total;
+            counts.put(e.getKey(), count);
+            assigned += count;
+        }
+        byRemainder.sort(Comparator.comparingInt((RoomType type) -> roomsPerFloor * weights.get(type) % total).reversed());
+        for (int i = 0; assigned < roomsPerFloor; i++, assigned++) {
+            counts.merge(byRemainder.get(i % byRemainder.size()), 1, Integer::sum);
+        }
+        List<RoomType> layout = new ArrayList<>(roomsPerFloor);
+        counts.forEach((type, count) -> layout.addAll(Collections.nCopies(count, type)));
+        return layout;
+    }
+
+    /**
+     * Parse "Type:number,Type:number"; types must be Single, Double, Triple or Quad
+     */
+    private static Map<RoomType, Integer> parse(String spec, String label) {
+        Map<RoomType, Integer> values = new LinkedHashMap<>();
+        if (spec == null) return values;
+        for (String part : spec.split(",")) {
+            if (part.isBlank()) continue;
+            String[] pair = part.split(":");
+            RoomType type = pair.length == 2 ? roomType(pair[0]) : null;
+            if (type == null) {
+                throw new IllegalArgumentException(label + " entries must look like Double:2 with a type of "
+                        + "Single, Double, Triple or Quad, not '" + part.trim() + "'");
+            }
+            int value;
+            try {
+                value = Integer.parseInt(pair[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(label + " value for " + type + " must be a whole number");
+            }
+            if (value < 1) {
+                throw new IllegalArgumentException(label + " value for " + type + " must be at least 1");
+            }
+            values.merge(type, value, Integer::sum);
+        }
+        return values;
+    }
+
+    private static RoomType roomType(String text) {
+        try {
+            return RoomType.parse(text);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
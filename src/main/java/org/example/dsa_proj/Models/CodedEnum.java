@@ -0,0 +1,80 @@
+package org.example.dsa_proj.Models;
+
+import javax.persistence.AttributeConverter;
+import java.util.Locale;
+
+/**
+ * Coded Enum
+ *
+ * An enum stored as a fixed small integer code rather than its name or
+ * ordinal, so constants can be renamed or reordered without touching stored
+ * rows. The label is the display text that the status and type columns used
+ * to hold, and is what toString returns, so pages, exports and form values
+ * read as before.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public interface CodedEnum {
+
+    /**
+     * @return value stored in the database column; never changes once assigned
+     */
+    short getCode();
+
+    /**
+     * @return display text, e.g. "Processing Allocation"
+     */
+    String getLabel();
+
+    /**
+     * @throws IllegalArgumentException if no constant has the code
+     */
+    static <E extends Enum<E> & CodedEnum> E fromCode(Class<E> type, int code) {
+        for (E constant : type.getEnumConstants()) {
+            if (constant.getCode() == code) return constant;
+        }
+        throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " code " + code);
+    }
+
+    /**
+     * Look up a constant by label or name, ignoring case, spaces and underscores
+     * ("Processing Allocation", "PROCESSING_ALLOCATION" and "processingallocation" match)
+     * @return the constant, or null for null or blank text
+     * @throws IllegalArgumentException if nothing matches
+     */
+    static <E extends Enum<E> & CodedEnum> E parse(Class<E> type, String text) {
+        if (text == null || text.isBlank()) return null;
+        String key = key(text);
+        for (E constant : type.getEnumConstants()) {
+            if (key(constant.getLabel()).equals(key) || key(constant.name()).equals(key)) return constant;
+        }
+        throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " '" + text.trim() + "'");
+    }
+
+    private static String key(String text) {
+        return text.replaceAll("[\\s_]", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Maps a coded enum attribute to a SMALLINT column
+     */
+    abstract class Converter<E extends Enum<E> & CodedEnum> implements AttributeConverter<E, Short> {
+
+        private final Class<E> type;
+
+        protected Converter(Class<E> type) {
+            this.type = type;
+        }
+
+        @Override
+        public Short convertToDatabaseColumn(E value) {
+            return value == null ? null : value.getCode();
+        }
+
+        @Override
+        public E convertToEntityAttribute(Short code) {
+            return code == null ? null : fromCode(type, code);
+        }
+    }
+}
@@ -31,7 +31,8 @@ import lombok.AllArgsConstructor;
 public class Preference {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "student_preferences_seq")
+    @SequenceGenerator(name = "student_preferences_seq", sequenceName = "student_preferences_seq", allocationSize = 50)
     @Column(name = "preference_id")
     private Long preferenceId;
 
@@ -6,6 +6,9 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.example.dsa_proj.CacheConfig;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.*;
 
@@ -20,20 +23,23 @@ import java.util.*;
  * @since 2024
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.ROOM_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "rooms", indexes = {
-    @Index(name = "idx_room_status", columnList = "status"),
-    @Index(name = "idx_room_type", columnList = "room_type"),
+    @Index(name = "idx_room_status_id", columnList = "status, room_id"),
+    @Index(name = "idx_room_type_status", columnList = "room_type, status"),
     @Index(name = "idx_room_block", columnList = "hostel_block"),
     @Index(name = "idx_room_number", columnList = "room_number", unique = true)
 })
 public class Room {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rooms_seq")
+    @SequenceGenerator(name = "rooms_seq", sequenceName = "rooms_seq", allocationSize = 50)
     @Column(name = "room_id")
     private Long roomId;
 
@@ -56,17 +62,15 @@ public class Room {
     @Column(name = "hostel_block", nullable = false, length = 1)
     private String hostelBlock;
 
-    @NotBlank(message = "Room type is required")
-    @Pattern(regexp = "^(Single|Double|Triple|Quad)$", 
-             message = "Room type must be Single, Double, Triple, or Quad")
-    @Column(name = "room_type", nullable = false, length = 20)
-    private String roomType;
+    @NotNull(message = "Room type is required")
+    @Convert(converter = RoomType.Converter.class)
+    @Column(name = "room_type", nullable = false)
+    private RoomType roomType;
 
-    @NotBlank(message = "Status is required")
-    @Pattern(regexp = "^(Available|Full|Maintenance|Reserved)$", 
-             message = "Status must be Available, Full, Maintenance, or Reserved")
-    @Column(name = "status", nullable = false, length = 20)
-    private String status = "Available";
+    @NotNull(message = "Status is required")
+    @Convert(converter = RoomStatus.Converter.class)
+    @Column(name = "status", nullable = false)
+    private RoomStatus status = RoomStatus.AVAILABLE;
 
     @OneToMany(mappedBy = "allocatedRoom", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Student> students = new ArrayList<>();
@@ -76,7 +80,7 @@ public class Room {
      * @return true if room can accommodate more students, false otherwise
      */
     public boolean hasAvailableSpace() {
-        return occupancy < capacity && "Available".equals(status);
+        return occupancy < capacity && status == RoomStatus.AVAILABLE;
     }
 
     /**
@@ -116,8 +120,8 @@ public class Room {
      * Update room status based on current occupancy
      */
     public void updateStatusBasedOnOccupancy() {
-        if (!"Maintenance".equals(status) && !"Reserved".equals(status)) {
-            this.status = isFull() ? "Full" : "Available";
+        if (status != RoomStatus.MAINTENANCE && status != RoomStatus.RESERVED) {
+            this.status = isFull() ? RoomStatus.FULL : RoomStatus.AVAILABLE;
         }
     }
 
@@ -0,0 +1,61 @@
+package org.example.dsa_proj.Models;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Room Status
+ *
+ * Status of a room, stored in rooms.status as a SMALLINT code.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public enum RoomStatus implements CodedEnum {
+
+    AVAILABLE(1, "Available"),
+    FULL(2, "Full"),
+    MAINTENANCE(3, "Maintenance"),
+    RESERVED(4, "Reserved");
+
+    private final short code;
+    private final String label;
+
+    RoomStatus(int code, String label) {
+        this.code = (short) code;
+        this.label = label;
+    }
+
+    @Override
+    public short getCode() {
+        return code;
+    }
+
+    @Override
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+
+    public static RoomStatus fromCode(int code) {
+        return CodedEnum.fromCode(RoomStatus.class, code);
+    }
+
+    /**
+     * @see CodedEnum#parse(Class, String)
+     */
+    public static RoomStatus parse(String text) {
+        return CodedEnum.parse(RoomStatus.class, text);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+
+    @javax.persistence.Converter
+    public static class Converter extends CodedEnum.Converter<RoomStatus> {
+        public Converter() {
+            super(RoomStatus.class);
+        }
+    }
+}
@@ -35,7 +35,8 @@ import java.time.LocalDateTime;
 public class RoomSwapRequest {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_swap_requests_seq")
+    @SequenceGenerator(name = "room_swap_requests_seq", sequenceName = "room_swap_requests_seq", allocationSize = 50)
     @Column(name = "swap_id")
     private Long swapId;
 
@@ -58,11 +59,10 @@ public class RoomSwapRequest {
     @Column(name = "requested_room_type", length = 20)
     private String requestedRoomType;
 
-    @NotBlank(message = "Status is required")
-    @Pattern(regexp = "^(Pending|Under Review|Approved|Rejected|Completed|Cancelled)$", 
-             message = "Status must be Pending, Under Review, Approved, Rejected, Completed, or Cancelled")
-    @Column(name = "status", nullable = false, length = 20)
-    private String status = "Pending";
+    @NotNull(message = "Status is required")
+    @Convert(converter = SwapStatus.Converter.class)
+    @Column(name = "status", nullable = false)
+    private SwapStatus status = SwapStatus.PENDING;
 
     @NotNull(message = "Request date is required")
     @Column(name = "request_date", nullable = false)
@@ -92,7 +92,7 @@ public class RoomSwapRequest {
      * @return true if request is pending or under review
      */
     public boolean isPending() {
-        return "Pending".equals(status) || "Under Review".equals(status);
+        return status == SwapStatus.PENDING || status == SwapStatus.UNDER_REVIEW;
     }
 
     /**
@@ -100,8 +100,8 @@ public class RoomSwapRequest {
      * @return true if request is approved, rejected, completed, or cancelled
      */
     public boolean isProcessed() {
-        return "Approved".equals(status) || "Rejected".equals(status) || 
-               "Completed".equals(status) || "Cancelled".equals(status);
+        return status == SwapStatus.APPROVED || status == SwapStatus.REJECTED ||
+               status == SwapStatus.COMPLETED || status == SwapStatus.CANCELLED;
     }
 
     /**
@@ -110,7 +110,7 @@ public class RoomSwapRequest {
      * @param notes Additional notes
      */
     public void approve(String processedBy, String notes) {
-        this.status = "Approved";
+        this.status = SwapStatus.APPROVED;
         this.processedBy = processedBy;
         this.processedDate = LocalDateTime.now();
         this.adminNotes = notes;
@@ -122,7 +122,7 @@ public class RoomSwapRequest {
      * @param reason Reason for rejection
      */
     public void reject(String processedBy, String reason) {
-        this.status = "Rejected";
+        this.status = SwapStatus.REJECTED;
         this.processedBy = processedBy;
         this.processedDate = LocalDateTime.now();
         this.adminNotes = reason;
@@ -132,7 +132,7 @@ public class RoomSwapRequest {
      * Mark the request as completed
      */
     public void complete() {
-        this.status = "Completed";
+        this.status = SwapStatus.COMPLETED;
         this.processedDate = LocalDateTime.now();
     }
 
@@ -0,0 +1,71 @@
+package org.example.dsa_proj.Models;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Room Type
+ *
+ * Type of a room, stored as a SMALLINT code in rooms.room_type and
+ * wait_list.preferred_room_type. Each type has a default number of beds.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public enum RoomType implements CodedEnum {
+
+    SINGLE(1, "Single", 1),
+    DOUBLE(2, "Double", 2),
+    TRIPLE(3, "Triple", 3),
+    QUAD(4, "Quad", 4);
+
+    private final short code;
+    private final String label;
+    private final int defaultCapacity;
+
+    RoomType(int code, String label, int defaultCapacity) {
+        this.code = (short) code;
+        this.label = label;
+        this.defaultCapacity = defaultCapacity;
+    }
+
+    @Override
+    public short getCode() {
+        return code;
+    }
+
+    @Override
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * @return beds in a room of this type unless overridden
+     */
+    public int getDefaultCapacity() {
+        return defaultCapacity;
+    }
+
+    public static RoomType fromCode(int code) {
+        return CodedEnum.fromCode(RoomType.class, code);
+    }
+
+    /**
+     * @see CodedEnum#parse(Class, String)
+     */
+    public static RoomType parse(String text) {
+        return CodedEnum.parse(RoomType.class, text);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+
+    @javax.persistence.Converter
+    public static class Converter extends CodedEnum.Converter<RoomType> {
+        public Converter() {
+            super(RoomType.class);
+        }
+    }
+}
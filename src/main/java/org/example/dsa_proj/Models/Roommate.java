@@ -35,7 +35,8 @@ import java.time.LocalDate;
 public class Roommate {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "roommates_seq")
+    @SequenceGenerator(name = "roommates_seq", sequenceName = "roommates_seq", allocationSize = 50)
     @Column(name = "roommate_id")
     private Long roommateId;
 
@@ -25,14 +25,15 @@ import java.util.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "students", indexes = {
-    @Index(name = "idx_student_status", columnList = "status"),
+    @Index(name = "idx_student_status_id", columnList = "status, student_id"),
     @Index(name = "idx_student_gender", columnList = "gender"),
     @Index(name = "idx_student_branch", columnList = "branch")
 })
 public class Student {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_seq")
+    @SequenceGenerator(name = "students_seq", sequenceName = "students_seq", allocationSize = 50)
     @Column(name = "student_id")
     private Long studentId;
 
@@ -64,11 +65,10 @@ public class Student {
     @Column(name = "room_type_preference", length = 20)
     private String roomTypePreference;    // single, double, triple, quad
 
-    @NotBlank(message = "Status is required")
-    @Pattern(regexp = "^(Allocated|Waiting|Left|Processing Allocation)$", 
-             message = "Status must be Allocated, Waiting, Left, or Processing Allocation")
-    @Column(name = "status", nullable = false, length = 25)
-    private String status = "Waiting";    // Default status for new students
+    @NotNull(message = "Status is required")
+    @Convert(converter = StudentStatus.Converter.class)
+    @Column(name = "status", nullable = false)
+    private StudentStatus status = StudentStatus.WAITING;    // Default status for new students
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id", foreignKey = @ForeignKey(name = "FK_student_room"))
@@ -82,7 +82,7 @@ public class Student {
      * @return true if student has an allocated room, false otherwise
      */
     public boolean isAllocated() {
-        return allocatedRoom != null && "Allocated".equals(status);
+        return allocatedRoom != null && status == StudentStatus.ALLOCATED;
     }
 
     /**
@@ -90,7 +90,7 @@ public class Student {
      * @return true if student is in waiting status, false otherwise
      */
     public boolean isWaiting() {
-        return "Waiting".equals(status) || "Processing Allocation".equals(status);
+        return status != null && status.isWaiting();
     }
 
     /**
@@ -0,0 +1,31 @@
+package org.example.dsa_proj.Models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Student Row
+ *
+ * Read-only projection of a student for listing pages and dashboards: the
+ * rendered columns plus the allocated room's ID and number, selected with a
+ * JPQL constructor expression so a page is one query and no entity, proxy or
+ * lazy association is created.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class StudentRow {
+
+    private final Long studentId;
+    private final String name;
+    private final String gender;
+    private final String branch;
+    private final int year;
+    private final String preferenceType;
+    private final String roomTypePreference;
+    private final StudentStatus status;
+    private final Long roomId;
+    private final String roomNumber;
+}
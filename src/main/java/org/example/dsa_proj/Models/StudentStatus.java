@@ -0,0 +1,68 @@
+package org.example.dsa_proj.Models;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Student Status
+ *
+ * Allocation status of a student, stored in students.status as a SMALLINT code.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public enum StudentStatus implements CodedEnum {
+
+    WAITING(1, "Waiting"),
+    PROCESSING_ALLOCATION(2, "Processing Allocation"),
+    ALLOCATED(3, "Allocated"),
+    LEFT(4, "Left");
+
+    private final short code;
+    private final String label;
+
+    StudentStatus(int code, String label) {
+        this.code = (short) code;
+        this.label = label;
+    }
+
+    @Override
+    public short getCode() {
+        return code;
+    }
+
+    @Override
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * @return true for Waiting and Processing Allocation (Student.isWaiting)
+     */
+    public boolean isWaiting() {
+        return this == WAITING || this == PROCESSING_ALLOCATION;
+    }
+
+    public static StudentStatus fromCode(int code) {
+        return CodedEnum.fromCode(StudentStatus.class, code);
+    }
+
+    /**
+     * @see CodedEnum#parse(Class, String)
+     */
+    public static StudentStatus parse(String text) {
+        return CodedEnum.parse(StudentStatus.class, text);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+
+    @javax.persistence.Converter
+    public static class Converter extends CodedEnum.Converter<StudentStatus> {
+        public Converter() {
+            super(StudentStatus.class);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.dsa_proj.Models;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Swap Status
+ *
+ * Status of a room swap request, stored in room_swap_requests.status as a
+ * SMALLINT code.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public enum SwapStatus implements CodedEnum {
+
+    PENDING(1, "Pending"),
+    UNDER_REVIEW(2, "Under Review"),
+    APPROVED(3, "Approved"),
+    REJECTED(4, "Rejected"),
+    COMPLETED(5, "Completed"),
+    CANCELLED(6, "Cancelled");
+
+    private final short code;
+    private final String label;
+
+    SwapStatus(int code, String label) {
+        this.code = (short) code;
+        this.label = label;
+    }
+
+    @Override
+    public short getCode() {
+        return code;
+    }
+
+    @Override
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+
+    public static SwapStatus fromCode(int code) {
+        return CodedEnum.fromCode(SwapStatus.class, code);
+    }
+
+    /**
+     * @see CodedEnum#parse(Class, String)
+     */
+    public static SwapStatus parse(String text) {
+        return CodedEnum.parse(SwapStatus.class, text);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+
+    @javax.persistence.Converter
+    public static class Converter extends CodedEnum.Converter<SwapStatus> {
+        public Converter() {
+            super(SwapStatus.class);
+        }
+    }
+}
@@ -14,6 +14,12 @@ import java.time.LocalDate;
  * 
  * Represents students waiting for room allocation in priority order.
  * Uses priority scoring algorithm for fair allocation.
+ *
+ * The priority score grows by one point per week waited, so instead of the
+ * score the table stores a time-invariant priority key: the score the entry
+ * would have had on {@link #AGING_EPOCH}. Every entry ages at the same rate,
+ * so ordering by the key is ordering by today's score and rows never need
+ * rewriting as time passes. The score is derived from the key when read.
  * 
  * @author DSA Project Team
  * @version 1.0
@@ -25,14 +31,16 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "wait_list", indexes = {
-    @Index(name = "idx_waitlist_priority", columnList = "priority_score DESC"),
+    @Index(name = "idx_waitlist_priority", columnList = "priority_key DESC"),
     @Index(name = "idx_waitlist_room_type", columnList = "preferred_room_type"),
+    @Index(name = "idx_waitlist_type_priority", columnList = "preferred_room_type, priority_key DESC, wait_id"),
     @Index(name = "idx_waitlist_waiting_since", columnList = "waiting_since")
 })
 public class WaitList {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "wait_list_seq")
+    @SequenceGenerator(name = "wait_list_seq", sequenceName = "wait_list_seq", allocationSize = 50)
     @Column(name = "wait_id")
     private Long waitId;
 
@@ -41,40 +49,86 @@ public class WaitList {
                 foreignKey = @ForeignKey(name = "FK_waitlist_student"))
     private Student student;
 
-    @Size(max = 20, message = "Preferred room type cannot exceed 20 characters")
-    @Column(name = "preferred_room_type", length = 20)
-    private String preferredRoomType;
+    @Convert(converter = RoomType.Converter.class)
+    @Column(name = "preferred_room_type")
+    private RoomType preferredRoomType;
 
     @NotNull(message = "Waiting since date is required")
     @Column(name = "waiting_since", nullable = false)
     private LocalDate waitingSince;
 
-    @DecimalMin(value = "0.0", message = "Priority score cannot be negative")
-    @DecimalMax(value = "100.0", message = "Priority score cannot exceed 100")
-    @Column(name = "priority_score", nullable = false, precision = 5, scale = 2)
-    private double priorityScore;
+    @Column(name = "priority_key", nullable = false)
+    private double priorityKey;
+
+    /** Date priority keys are measured from */
+    public static final LocalDate AGING_EPOCH = LocalDate.of(2024, 1, 1);
+    /** Days of waiting per point of priority score */
+    public static final double DAYS_PER_POINT = 7.0;
+    /** Score every entry starts from */
+    public static final double BASE_SCORE = 10.0;
+    /** Students in this year or later get the seniority bonus */
+    public static final int SENIOR_YEAR = 3;
+    public static final double SENIOR_BONUS = 5.0;
+    public static final double MAX_SCORE = 100.0;
 
     /**
-     * Calculate priority score based on waiting time and student factors
+     * Calculate priority score based on waiting time and student factors.
+     * WaitlistAgingService applies the same formula to every entry in SQL.
      */
     public void calculatePriorityScore() {
         if (student != null && waitingSince != null) {
-            double baseScore = 10.0; // Base priority
-            
-            // Add points for waiting duration (1 point per week)
-            long daysSinceWaiting = java.time.temporal.ChronoUnit.DAYS.between(waitingSince, LocalDate.now());
-            baseScore += (daysSinceWaiting / 7.0);
+            double baseScore = BASE_SCORE; // Base priority
             
             // Add points for senior students
-            if (student.getYear() >= 3) {
-                baseScore += 5.0;
+            if (student.getYear() >= SENIOR_YEAR) {
+                baseScore += SENIOR_BONUS;
             }
             
-            // Cap the maximum score
-            this.priorityScore = Math.min(baseScore, 100.0);
+            // Waiting time adds 1 point per week from waitingSince on
+            this.priorityKey = baseScore - agingPoints(waitingSince);
         }
     }
 
+    /**
+     * Priority score today, derived from the stored key
+     * @return score capped at MAX_SCORE, to 2 decimal places
+     */
+    @DecimalMin(value = "0.0", message = "Priority score cannot be negative")
+    @DecimalMax(value = "100.0", message = "Priority score cannot exceed 100")
+    public double getPriorityScore() {
+        return priorityScore(priorityKey, LocalDate.now());
+    }
+
+    /**
+     * Set today's priority score; it keeps aging from here
+     * @param priorityScore Score as of today
+     */
+    public void setPriorityScore(double priorityScore) {
+        this.priorityKey = priorityKey(priorityScore, LocalDate.now());
+    }
+
+    /**
+     * @return score on a date for a stored priority key
+     */
+    public static double priorityScore(double priorityKey, LocalDate asOf) {
+        double score = Math.min(priorityKey + agingPoints(asOf), MAX_SCORE);
+        return Math.round(score * 100) / 100.0;
+    }
+
+    /**
+     * @return priority key for a score on a date
+     */
+    public static double priorityKey(double priorityScore, LocalDate asOf) {
+        return priorityScore - agingPoints(asOf);
+    }
+
+    /**
+     * @return score points gained waiting from AGING_EPOCH to a date
+     */
+    public static double agingPoints(LocalDate date) {
+        return java.time.temporal.ChronoUnit.DAYS.between(AGING_EPOCH, date) / DAYS_PER_POINT;
+    }
+
     @Override
     public String toString() {
         return "WaitList{" +
@@ -82,7 +136,7 @@ public class WaitList {
                 ", student=" + (student != null ? student.getName() : "null") +
                 ", preferredRoomType='" + preferredRoomType + '\'' +
                 ", waitingSince=" + waitingSince +
-                ", priorityScore=" + priorityScore +
+                ", priorityKey=" + priorityKey +
                 '}';
     }
 }
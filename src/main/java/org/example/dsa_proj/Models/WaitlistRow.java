@@ -0,0 +1,37 @@
+package org.example.dsa_proj.Models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Waitlist Row
+ *
+ * Read-only projection of a waitlist entry joined with the student columns
+ * the waitlist page shows, so the page is one query instead of one per
+ * entry for the lazy WaitList.student association. Carries the stored
+ * priority key for keyset paging; the score is derived from it.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class WaitlistRow {
+
+    private final Long waitId;
+    private final RoomType preferredRoomType;
+    private final LocalDate waitingSince;
+    private final double priorityKey;
+    private final Long studentId;
+    private final String studentName;
+    private final String branch;
+    private final int year;
+    private final String gender;
+    private final String preferenceType;
+
+    public double getPriorityScore() {
+        return WaitList.priorityScore(priorityKey, LocalDate.now());
+    }
+}
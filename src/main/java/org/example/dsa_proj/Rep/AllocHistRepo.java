@@ -1,10 +1,20 @@
 package org.example.dsa_proj.Rep;
 
 import org.example.dsa_proj.Models.AllocationHistory;
+import org.example.dsa_proj.Models.RoomType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+import static org.hibernate.annotations.QueryHints.READ_ONLY;
 
 @Repository
 public interface AllocHistRepo extends JpaRepository<AllocationHistory, Long> {
@@ -39,5 +49,26 @@ public interface AllocHistRepo extends JpaRepository<AllocationHistory, Long> {
      * @return Current active allocation if any
      */
     AllocationHistory findByStudentAndDeallocationDateIsNull(org.example.dsa_proj.Models.Student student);
+
+    /**
+     * Beds freed per room type: (roomType, deallocations on or after the date)
+     * @param since First day counted
+     * @return one row per room type with at least one deallocation
+     */
+    @Query("SELECT r.roomType, COUNT(h) FROM AllocationHistory h JOIN h.room r " +
+           "WHERE h.deallocationDate >= :since GROUP BY r.roomType")
+    List<Object[]> countDeallocationsByRoomTypeSince(@Param("since") LocalDate since);
+
+    /**
+     * Every history record as a scalar row in ID order, read through a forward-only cursor:
+     * allocationId, studentId, studentName, roomId, roomNumber, allocationDate,
+     * deallocationDate, reason, notes, createdBy. Must be consumed inside a transaction.
+     * @return stream of rows; close it when done
+     */
+    @QueryHints({@QueryHint(name = FETCH_SIZE, value = "500"), @QueryHint(name = READ_ONLY, value = "true")})
+    @Query("SELECT h.allocationId, s.studentId, s.name, r.roomId, r.roomNumber, h.allocationDate, " +
+           "h.deallocationDate, h.reason, h.notes, h.createdBy " +
+           "FROM AllocationHistory h JOIN h.student s JOIN h.room r ORDER BY h.allocationId")
+    Stream<Object[]> streamExportRows();
 }
 
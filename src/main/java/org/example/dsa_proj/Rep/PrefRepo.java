@@ -3,6 +3,8 @@ package org.example.dsa_proj.Rep;
 
 import org.example.dsa_proj.Models.Preference;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,5 +13,13 @@ import java.util.List;
 public interface PrefRepo extends JpaRepository<Preference, Long> {
 
     List<Preference> findByStudent_StudentId(Long studentId);
+
+    // (studentId, interests) of every preference row with interests, for the interest index
+    @Query("SELECT p.student.studentId, p.interests FROM Preference p WHERE p.interests IS NOT NULL")
+    List<Object[]> findAllInterests();
+
+    // Interests text of one student's preference rows
+    @Query("SELECT p.interests FROM Preference p WHERE p.student.studentId = :studentId AND p.interests IS NOT NULL")
+    List<String> findInterestsByStudentId(@Param("studentId") Long studentId);
 }
 
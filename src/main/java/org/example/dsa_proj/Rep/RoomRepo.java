@@ -1,17 +1,66 @@
 package org.example.dsa_proj.Rep;
+import org.example.dsa_proj.CacheConfig;
 import org.example.dsa_proj.Models.Room;
+import org.example.dsa_proj.Models.RoomStatus;
+import org.example.dsa_proj.Models.RoomType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+import static org.hibernate.annotations.QueryHints.CACHE_REGION;
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+import static org.hibernate.annotations.QueryHints.READ_ONLY;
 
 @Repository
 public interface RoomRepo extends JpaRepository<Room, Long> {
 
-    List<Room> findByStatus(String status);
+    // Result cached in the room query region until the rooms table is next written
+    @QueryHints({@QueryHint(name = CACHEABLE, value = "true"),
+                 @QueryHint(name = CACHE_REGION, value = CacheConfig.ROOM_QUERY_REGION)})
+    List<Room> findByStatus(RoomStatus status);
 
     List<Room> findByHostelBlock(String hostelBlock);
 
-    // Find available rooms of specific type
-    List<Room> findByRoomTypeAndStatus(String roomType, String status);
+    // Room numbers already taken in a block, without loading the rooms
+    @Query("SELECT r.roomNumber FROM Room r WHERE r.hostelBlock = :block")
+    List<String> findRoomNumbersByHostelBlock(@Param("block") String hostelBlock);
+
+    // Find available rooms of specific type; cached like findByStatus
+    @QueryHints({@QueryHint(name = CACHEABLE, value = "true"),
+                 @QueryHint(name = CACHE_REGION, value = CacheConfig.ROOM_QUERY_REGION)})
+    List<Room> findByRoomTypeAndStatus(RoomType roomType, RoomStatus status);
+
+    // Dashboard counts in one row: total, with free space (Room.hasAvailableSpace), full (Room.isFull)
+    @Query("SELECT COUNT(r), " +
+           "SUM(CASE WHEN r.occupancy < r.capacity " +
+           "AND r.status = org.example.dsa_proj.Models.RoomStatus.AVAILABLE THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN r.occupancy >= r.capacity THEN 1 ELSE 0 END) FROM Room r")
+    List<Object[]> countByAvailability();
+
+    // Newest rooms first, limited by the page size
+    List<Room> findAllByOrderByRoomIdDesc(Pageable pageable);
+
+    // Export rows in ID order through a forward-only cursor; consume inside a transaction and close
+    @QueryHints({@QueryHint(name = FETCH_SIZE, value = "500"), @QueryHint(name = READ_ONLY, value = "true")})
+    @Query("SELECT r.roomId, r.roomNumber, r.hostelBlock, r.roomType, r.capacity, r.occupancy, r.status " +
+           "FROM Room r ORDER BY r.roomId")
+    Stream<Object[]> streamExportRows();
+
+    // Keyset page: rooms after a room ID in ID order, each filter ignored when null
+    @Query("SELECT r FROM Room r WHERE r.roomId > :afterId " +
+           "AND (:status IS NULL OR r.status = :status) " +
+           "AND (:block IS NULL OR r.hostelBlock = :block) " +
+           "AND (:roomType IS NULL OR r.roomType = :roomType) ORDER BY r.roomId")
+    Slice<Room> findPageAfter(@Param("afterId") long afterId, @Param("status") RoomStatus status,
+                              @Param("block") String block, @Param("roomType") RoomType roomType,
+                              Pageable pageable);
 }
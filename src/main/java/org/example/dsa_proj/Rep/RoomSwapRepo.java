@@ -3,6 +3,7 @@ package org.example.dsa_proj.Rep;
 
 
 import org.example.dsa_proj.Models.RoomSwapRequest;
+import org.example.dsa_proj.Models.SwapStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -13,9 +14,9 @@ public interface RoomSwapRepo extends JpaRepository<RoomSwapRequest, Long> {
 
     List<RoomSwapRequest> findByStudent_StudentId(Long studentId);
 
-    List<RoomSwapRequest> findByStatus(String status);
+    List<RoomSwapRequest> findByStatus(SwapStatus status);
     
-    List<RoomSwapRequest> findByStatusOrderByRequestDateAsc(String status);
+    List<RoomSwapRequest> findByStatusOrderByRequestDateAsc(SwapStatus status);
     
     List<RoomSwapRequest> findByRequestedRoomType(String requestedRoomType);
     
@@ -2,8 +2,11 @@ package org.example.dsa_proj.Rep;
 
 
 
+import org.example.dsa_proj.Models.RoomType;
 import org.example.dsa_proj.Models.Roommate;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -34,5 +37,18 @@ public interface RoomateRepo extends JpaRepository<Roommate, Long> {
      * Find all assignments for a room
      */
     List<Roommate> findByRoomOrderByJoinedDateDesc(org.example.dsa_proj.Models.Room room);
-}
 
+    /**
+     * Profile rows of everyone currently living in an available room of a type:
+     * roomId, studentId, gender, branch, preferenceType, preferenceId, studyTime,
+     * sleepTime, noiseLevelPreference, cleanlinessLevel, roommateGenderPreference.
+     * A student's rows are adjacent, lowest preferenceId first.
+     */
+    @Query("select r.room.roomId, s.studentId, s.gender, s.branch, s.preferenceType, p.preferenceId, " +
+           "p.studyTime, p.sleepTime, p.noiseLevelPreference, p.cleanlinessLevel, p.roommateGenderPreference " +
+           "from Roommate r join r.student s left join s.preferences p " +
+           "where r.leftDate is null and r.room.roomType = :roomType " +
+           "and r.room.status = org.example.dsa_proj.Models.RoomStatus.AVAILABLE " +
+           "order by s.studentId, p.preferenceId")
+    List<Object[]> findOccupantProfilesByRoomType(@Param("roomType") RoomType roomType);
+}
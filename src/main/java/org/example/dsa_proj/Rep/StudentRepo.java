@@ -2,17 +2,101 @@ package org.example.dsa_proj.Rep;
 
 
 import org.example.dsa_proj.Models.Student;
+import org.example.dsa_proj.Models.StudentRow;
+import org.example.dsa_proj.Models.StudentStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+import static org.hibernate.annotations.QueryHints.FLUSH_MODE;
+import static org.hibernate.annotations.QueryHints.READ_ONLY;
 
 @Repository
 public interface StudentRepo extends JpaRepository<Student, Long> {
-    List<Student> findByStatus(String status);
+
+    // Constructor expression for StudentRow; s is the student, r its (left-joined) room
+    String ROW = "new org.example.dsa_proj.Models.StudentRow(s.studentId, s.name, s.gender, s.branch, s.year, " +
+                 "s.preferenceType, s.roomTypePreference, s.status, r.roomId, r.roomNumber)";
+
+    // Statuses counted as waiting (Student.isWaiting), as a JPQL list of enum constants
+    String WAITING = "(org.example.dsa_proj.Models.StudentStatus.WAITING, " +
+                     "org.example.dsa_proj.Models.StudentStatus.PROCESSING_ALLOCATION)";
+
+    List<Student> findByStatus(StudentStatus status);
     List<Student> findByGender(String gender);
     List<Student> findByRoomTypePreference(String roomTypePreference);
     // To find students allocated in a particular room
     List<Student> findByAllocatedRoom_RoomId(Long roomId);
-}
 
+    // Stored (status, allocated room ID) of a student. COMMIT flush mode keeps pending changes to the
+    // entity from being flushed first, so the row reads as it was before the current save
+    @QueryHints(@QueryHint(name = FLUSH_MODE, value = "COMMIT"))
+    @Query("SELECT s.status, r.roomId FROM Student s LEFT JOIN s.allocatedRoom r WHERE s.studentId = :id")
+    List<Object[]> findStoredState(@Param("id") Long id);
+
+    // Compatibility fields of students still waiting for a room (studentId, gender, branch, preferenceType)
+    @Query("SELECT s.studentId, s.gender, s.branch, s.preferenceType FROM Student s " +
+           "WHERE s.status IN " + WAITING)
+    List<Object[]> findWaitingStudentWords();
+
+    // Full compatibility rows of waiting students: studentId, gender, branch, preferenceType,
+    // preferenceId, studyTime, sleepTime, noiseLevelPreference, cleanlinessLevel, roommateGenderPreference.
+    // A student's rows are adjacent, lowest preferenceId first
+    @Query("SELECT s.studentId, s.gender, s.branch, s.preferenceType, p.preferenceId, " +
+           "p.studyTime, p.sleepTime, p.noiseLevelPreference, p.cleanlinessLevel, p.roommateGenderPreference " +
+           "FROM Student s LEFT JOIN s.preferences p WHERE s.status IN " + WAITING + " " +
+           "ORDER BY s.studentId, p.preferenceId")
+    List<Object[]> findWaitingProfiles();
+
+    // Same rows as findWaitingProfiles, restricted to the given students
+    @Query("SELECT s.studentId, s.gender, s.branch, s.preferenceType, p.preferenceId, " +
+           "p.studyTime, p.sleepTime, p.noiseLevelPreference, p.cleanlinessLevel, p.roommateGenderPreference " +
+           "FROM Student s LEFT JOIN s.preferences p WHERE s.status IN " + WAITING + " " +
+           "AND s.studentId IN :ids ORDER BY s.studentId, p.preferenceId")
+    List<Object[]> findWaitingProfilesByIds(@Param("ids") Collection<Long> ids);
+
+    // Dashboard counts in one row: total, allocated (Student.isAllocated), waiting (Student.isWaiting)
+    @Query("SELECT COUNT(s), " +
+           "SUM(CASE WHEN s.allocatedRoom IS NOT NULL " +
+           "AND s.status = org.example.dsa_proj.Models.StudentStatus.ALLOCATED THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN s.status IN " + WAITING + " THEN 1 ELSE 0 END) FROM Student s")
+    List<Object[]> countByAllocationState();
+
+    // (gender, count) distribution
+    @Query("SELECT s.gender, COUNT(s) FROM Student s GROUP BY s.gender")
+    List<Object[]> countByGender();
+
+    // (branch, count) distribution
+    @Query("SELECT s.branch, COUNT(s) FROM Student s GROUP BY s.branch")
+    List<Object[]> countByBranch();
+
+    // Export rows in ID order through a forward-only cursor; consume inside a transaction and close
+    @QueryHints({@QueryHint(name = FETCH_SIZE, value = "500"), @QueryHint(name = READ_ONLY, value = "true")})
+    @Query("SELECT s.studentId, s.name, s.gender, s.branch, s.year, s.preferenceType, s.roomTypePreference, " +
+           "s.status, r.roomNumber, r.hostelBlock FROM Student s LEFT JOIN s.allocatedRoom r ORDER BY s.studentId")
+    Stream<Object[]> streamExportRows();
+
+    // Newest students first as listing rows, limited by the page size
+    @Query("SELECT " + ROW + " FROM Student s LEFT JOIN s.allocatedRoom r ORDER BY s.studentId DESC")
+    List<StudentRow> findRecentRows(Pageable pageable);
+
+    // Keyset page of listing rows: students after a student ID in ID order, each filter ignored
+    // when null (status, preferred room type, block of the allocated room)
+    @Query("SELECT " + ROW + " FROM Student s LEFT JOIN s.allocatedRoom r WHERE s.studentId > :afterId " +
+           "AND (:status IS NULL OR s.status = :status) " +
+           "AND (:roomType IS NULL OR s.roomTypePreference = :roomType) " +
+           "AND (:block IS NULL OR r.hostelBlock = :block) ORDER BY s.studentId")
+    Slice<StudentRow> findPageAfter(@Param("afterId") long afterId, @Param("status") StudentStatus status,
+                                 @Param("roomType") String roomType, @Param("block") String block,
+                                 Pageable pageable);
+}
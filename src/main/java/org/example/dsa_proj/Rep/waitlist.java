@@ -1,25 +1,83 @@
 package org.example.dsa_proj.Rep;
 
 
-import org.example.dsa_proj.Models.Student;
+import org.example.dsa_proj.Models.RoomType;
 import org.example.dsa_proj.Models.WaitList;
+import org.example.dsa_proj.Models.WaitlistRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface waitlist extends JpaRepository<WaitList, Long> {
 
+    // Constructor expression for WaitlistRow; w is the entry, s its student
+    String ROW = "new org.example.dsa_proj.Models.WaitlistRow(w.waitId, w.preferredRoomType, w.waitingSince, " +
+                 "w.priorityKey, s.studentId, s.name, s.branch, s.year, s.gender, s.preferenceType)";
+
     // Find waitlisted students based on room type
-    List<WaitList> findByPreferredRoomType(String roomType);
+    List<WaitList> findByPreferredRoomType(RoomType roomType);
 
     // Find by priority (useful for Priority Queue-based allocation)
-    List<WaitList> findAllByOrderByPriorityScoreDesc();
+    List<WaitList> findAllByOrderByPriorityKeyDesc();
 
-    List<WaitList> findByPreferredRoomTypeOrderByPriorityScoreDesc(String roomType);
+    List<WaitList> findByPreferredRoomTypeOrderByPriorityKeyDesc(RoomType roomType);
 
-    void deleteByStudent(Student s);
-}
+    // Bulk delete of the entries of the given students in one statement, without loading them;
+    // callers chunk the IDs to keep the IN list bounded
+    @Modifying
+    @Transactional
+    @Query("delete from WaitList w where w.student.studentId in :studentIds")
+    int deleteByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+
+    Optional<WaitList> findByStudent_StudentId(Long studentId);
+
+    // (studentId, preferredRoomType, priorityKey, waitId) rows for loading the in-memory WaitlistEngine
+    @Query("select w.student.studentId, w.preferredRoomType, w.priorityKey, w.waitId from WaitList w")
+    List<Object[]> findAllQueueEntries();
+
+    // Profile rows of students waiting for a room type: studentId, gender, branch, preferenceType,
+    // preferenceId, studyTime, sleepTime, noiseLevelPreference, cleanlinessLevel, roommateGenderPreference.
+    // A student's rows are adjacent, lowest preferenceId first
+    @Query("select s.studentId, s.gender, s.branch, s.preferenceType, p.preferenceId, " +
+           "p.studyTime, p.sleepTime, p.noiseLevelPreference, p.cleanlinessLevel, p.roommateGenderPreference " +
+           "from WaitList w join w.student s left join s.preferences p where w.preferredRoomType = :roomType " +
+           "order by s.studentId, p.preferenceId")
+    List<Object[]> findWaitingProfilesByRoomType(@Param("roomType") RoomType roomType);
 
+    // (studentId, preferredRoomType, priorityKey, student's roomTypePreference, gender) for global allocation
+    @Query("select s.studentId, w.preferredRoomType, w.priorityKey, s.roomTypePreference, s.gender " +
+           "from WaitList w join w.student s")
+    List<Object[]> findGlobalAllocationEntries();
+
+    // Keyset pages of listing rows in queue order (priority key descending, then entry ID);
+    // room type ignored when null
+    @Query("select " + ROW + " from WaitList w join w.student s " +
+           "where (:roomType is null or w.preferredRoomType = :roomType) " +
+           "order by w.priorityKey desc, w.waitId")
+    Slice<WaitlistRow> findFirstPage(@Param("roomType") RoomType roomType, Pageable pageable);
+
+    @Query("select " + ROW + " from WaitList w join w.student s " +
+           "where (:roomType is null or w.preferredRoomType = :roomType) " +
+           "and (w.priorityKey < :afterKey or (w.priorityKey = :afterKey and w.waitId > :afterId)) " +
+           "order by w.priorityKey desc, w.waitId")
+    Slice<WaitlistRow> findPageAfter(@Param("afterKey") double afterKey, @Param("afterId") long afterId,
+                                  @Param("roomType") RoomType roomType, Pageable pageable);
+
+    // Waitlist summary in one row: entries, entries waiting since before the cutoff,
+    // average priority key capped at maxKey (the key whose score is the maximum today), distinct room types requested
+    @Query("select count(w), sum(case when w.waitingSince < :cutoff then 1 else 0 end), " +
+           "avg(case when w.priorityKey > :maxKey then :maxKey else w.priorityKey end), " +
+           "count(distinct w.preferredRoomType) from WaitList w")
+    List<Object[]> summarize(@Param("cutoff") LocalDate cutoff, @Param("maxKey") double maxKey);
+}
@@ -0,0 +1,33 @@
+package org.example.dsa_proj.Service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * After Commit
+ *
+ * Runs an in-memory index update once the current transaction commits, so a
+ * rolled-back write never reaches the resident copies. Runs immediately when
+ * no transaction is active.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
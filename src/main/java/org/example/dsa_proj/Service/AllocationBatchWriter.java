@@ -0,0 +1,144 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.StudentStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Allocation Batch Writer
+ *
+ * Commits an {@link AllocationPlan} with set-based JDBC batches instead of one
+ * repository save per student. The rows are written through JdbcTemplate, which
+ * joins the surrounding JPA transaction; inserted rows take their keys from the
+ * column defaults set up by {@link IdSequenceMigration}.
+ *
+ * Room and student updates are guarded by the values the plan was built from
+ * and every one must match a row, so two runs planned from the same snapshot
+ * cannot both commit.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+public class AllocationBatchWriter {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private HibernateCacheService cacheService;
+
+    @Value("${allocation.batch.size:500}")
+    private int batchSize;
+
+    /**
+     * Write a complete plan in a single transaction
+     * @param plan Plan computed in memory
+     * @return rows and statements written per table
+     */
+    @Transactional
+    public BatchWriteReport commit(AllocationPlan plan) {
+        long start = System.currentTimeMillis();
+        BatchWriteReport report = new BatchWriteReport();
+        if (plan.isEmpty()) {
+            return report;
+        }
+
+        List<AllocationPlan.Assignment> assignments = plan.getAssignments();
+        Date today = Date.valueOf(LocalDate.now());
+
+        // The plan was built from a snapshot. Rooms only move from the occupancy it read and
+        // students only from a waiting status, so a concurrent run that got there first
+        // matches no row and this whole transaction rolls back instead of double-booking.
+        report.record("rooms", requireEveryRow("rooms", jdbcTemplate.batchUpdate(
+                "UPDATE rooms SET occupancy = ?, status = ? WHERE room_id = ? AND occupancy = ?",
+                plan.getChangedRooms(), batchSize, (ps, r) -> {
+                    ps.setInt(1, r.getOccupancy());
+                    ps.setShort(2, r.getStatus().getCode());
+                    ps.setLong(3, r.getRoomId());
+                    ps.setInt(4, r.getInitialOccupancy());
+                })));
+        // JDBC bypasses Hibernate, so cached rooms and room queries are dropped explicitly
+        cacheService.evictRoomsAfterCommit();
+
+        report.record("students", requireEveryRow("students", jdbcTemplate.batchUpdate(
+                "UPDATE students SET room_id = ?, status = ? WHERE student_id = ? AND status IN (?, ?)",
+                assignments, batchSize, (ps, a) -> {
+                    ps.setLong(1, a.getRoomId());
+                    ps.setShort(2, StudentStatus.ALLOCATED.getCode());
+                    ps.setLong(3, a.getStudentId());
+                    ps.setShort(4, StudentStatus.WAITING.getCode());
+                    ps.setShort(5, StudentStatus.PROCESSING_ALLOCATION.getCode());
+                })));
+
+        report.record("roommates", jdbcTemplate.batchUpdate(
+                "INSERT INTO roommates (room_id, student_id, joined_date, compatibility_score) VALUES (?, ?, ?, ?)",
+                assignments, batchSize, (ps, a) -> {
+                    ps.setLong(1, a.getRoomId());
+                    ps.setLong(2, a.getStudentId());
+                    ps.setDate(3, today);
+                    ps.setObject(4, a.getCompatibilityScore(), Types.INTEGER);
+                }));
+
+        report.record("wait_list", deleteWaitlistEntries(assignments));
+
+        report.record("allocation_history", jdbcTemplate.batchUpdate(
+                "INSERT INTO allocation_history (student_id, room_id, allocation_date, reason) VALUES (?, ?, ?, ?)",
+                assignments, batchSize, (ps, a) -> {
+                    ps.setLong(1, a.getStudentId());
+                    ps.setLong(2, a.getRoomId());
+                    ps.setDate(3, today);
+                    ps.setString(4, plan.getReason());
+                }));
+
+        report.setElapsedMillis(System.currentTimeMillis() - start);
+        return report;
+    }
+
+    /**
+     * Fail the write when any guarded row was not updated; the exception rolls
+     * back the surrounding transaction
+     * @return the batch result, unchanged
+     */
+    private static int[][] requireEveryRow(String table, int[][] result) {
+        for (int[] batch : result) {
+            for (int count : batch) {
+                // SUCCESS_NO_INFO means the driver did not report a count
+                if (count != 1 && count != Statement.SUCCESS_NO_INFO) {
+                    throw new ConcurrencyFailureException("Allocation plan is out of date: " + table
+                            + " changed since it was planned, likely by another allocation run; nothing was written");
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Remove the assigned students from the waitlist with one DELETE ... IN per
+     * batch, instead of a batched statement per student
+     * @return rows deleted, one array per statement
+     */
+    private int[][] deleteWaitlistEntries(List<AllocationPlan.Assignment> assignments) {
+        int[][] result = new int[(assignments.size() + batchSize - 1) / batchSize][];
+        for (int from = 0, i = 0; from < assignments.size(); from += batchSize, i++) {
+            List<AllocationPlan.Assignment> chunk =
+                    assignments.subList(from, Math.min(from + batchSize, assignments.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            result[i] = new int[] {jdbcTemplate.update(
+                    "DELETE FROM wait_list WHERE student_id IN (" + placeholders + ")",
+                    chunk.stream().map(AllocationPlan.Assignment::getStudentId).toArray())};
+        }
+        return result;
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.Room;
+import org.example.dsa_proj.Models.RoomStatus;
+
+import java.util.*;
+
+/**
+ * Allocation Plan
+ *
+ * In-memory result of an allocation run: which student goes to which room and
+ * the occupancy every touched room ends up with. Nothing is written while the
+ * plan is built; {@link AllocationBatchWriter} commits it in one transaction.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public class AllocationPlan {
+
+    private final String reason;
+    private String note;
+    private final List<Assignment> assignments = new ArrayList<>();
+    private final Map<Long, RoomState> rooms = new LinkedHashMap<>();
+
+    public AllocationPlan(String reason) {
+        this.reason = reason;
+    }
+
+    /**
+     * Register a room so students can be planned into it
+     * @param room Room with its current occupancy
+     */
+    public void trackRoom(Room room) {
+        rooms.putIfAbsent(room.getRoomId(),
+                new RoomState(room.getRoomId(), room.getCapacity(), room.getOccupancy()));
+    }
+
+    /**
+     * Plan a student into a tracked room
+     * @param studentId Student ID
+     * @param roomId Room ID (must have been tracked)
+     * @return true if the room still had space, false otherwise
+     */
+    public boolean assign(Long studentId, Long roomId) {
+        return assign(studentId, roomId, null);
+    }
+
+    /**
+     * Plan a student into a tracked room, recording their compatibility with
+     * the room's occupants
+     * @param studentId Student ID
+     * @param roomId Room ID (must have been tracked)
+     * @param compatibilityScore Score stored on the roommate row, or null
+     * @return true if the room still had space, false otherwise
+     */
+    public boolean assign(Long studentId, Long roomId, Integer compatibilityScore) {
+        RoomState room = rooms.get(roomId);
+        if (room == null || room.occupancy >= room.capacity) {
+            return false;
+        }
+        room.occupancy++;
+        assignments.add(new Assignment(studentId, roomId, compatibilityScore));
+        return true;
+    }
+
+    /**
+     * Get remaining planned capacity of a tracked room
+     * @param roomId Room ID
+     * @return free beds after the assignments planned so far
+     */
+    public int getRemainingCapacity(Long roomId) {
+        RoomState room = rooms.get(roomId);
+        return room != null ? Math.max(0, room.capacity - room.occupancy) : 0;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * Free-form remark from the planner, carried into the write report
+     */
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+
+    public List<Assignment> getAssignments() {
+        return Collections.unmodifiableList(assignments);
+    }
+
+    /**
+     * Rooms whose occupancy changed in this plan
+     * @return room states to be written back
+     */
+    public List<RoomState> getChangedRooms() {
+        List<RoomState> changed = new ArrayList<>();
+        for (RoomState room : rooms.values()) {
+            if (room.occupancy != room.initialOccupancy) changed.add(room);
+        }
+        return changed;
+    }
+
+    public boolean isEmpty() {
+        return assignments.isEmpty();
+    }
+
+    public int size() {
+        return assignments.size();
+    }
+
+    /**
+     * A single planned student-to-room assignment
+     */
+    public static final class Assignment {
+        private final Long studentId;
+        private final Long roomId;
+        private final Integer compatibilityScore;
+
+        Assignment(Long studentId, Long roomId, Integer compatibilityScore) {
+            this.studentId = studentId;
+            this.roomId = roomId;
+            this.compatibilityScore = compatibilityScore;
+        }
+
+        public Long getStudentId() {
+            return studentId;
+        }
+
+        public Long getRoomId() {
+            return roomId;
+        }
+
+        public Integer getCompatibilityScore() {
+            return compatibilityScore;
+        }
+    }
+
+    /**
+     * Planned occupancy of a room
+     */
+    public static final class RoomState {
+        private final Long roomId;
+        private final int capacity;
+        private final int initialOccupancy;
+        private int occupancy;
+
+        RoomState(Long roomId, int capacity, int occupancy) {
+            this.roomId = roomId;
+            this.capacity = capacity;
+            this.initialOccupancy = occupancy;
+            this.occupancy = occupancy;
+        }
+
+        public Long getRoomId() {
+            return roomId;
+        }
+
+        public int getOccupancy() {
+            return occupancy;
+        }
+
+        /**
+         * Occupancy the room had when the plan read it
+         */
+        public int getInitialOccupancy() {
+            return initialOccupancy;
+        }
+
+        /**
+         * Status after the plan is applied, same rule as RoomService.updateOccupancy
+         * @return FULL or AVAILABLE
+         */
+        public RoomStatus getStatus() {
+            return occupancy >= capacity ? RoomStatus.FULL : RoomStatus.AVAILABLE;
+        }
+    }
+}
@@ -3,11 +3,15 @@ package org.example.dsa_proj.Service;
 
 
 import org.example.dsa_proj.Models.Room;
+import org.example.dsa_proj.Models.RoomType;
 import org.example.dsa_proj.Models.Student;
+import org.example.dsa_proj.Models.StudentStatus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 public class AllocationService {
@@ -22,13 +26,36 @@ public class AllocationService {
     private AllochistService historyService;
     @Autowired
     private waitlistservice waitlistService;
+    @Autowired
+    private AllocationBatchWriter batchWriter;
+    @Autowired
+    private WaitlistEngine waitlistEngine;
+    @Autowired
+    private CompatibilityAllocator compatibilityAllocator;
+    @Autowired
+    private GlobalAllocator globalAllocator;
+    @Autowired
+    private PairingAllocator pairingAllocator;
+    @Autowired
+    private GroupAllocator groupAllocator;
+    @Autowired
+    private RoommateCandidateIndex candidateIndex;
+    @Autowired
+    private CompatibilityTopKIndex topKIndex;
+    @Autowired
+    private HostelCounters counters;
 
-    public String allocateRooms(String roomType) {
-        List<Student> waitingStudents = waitlistService.getWaitingStudentsByRoomType(roomType);
+    @Transactional
+    public String allocateRooms(RoomType roomType) {
         List<Room> availableRooms = roomService.getAvailableRoomsByType(roomType);
 
         if (availableRooms.isEmpty()) return "❌ No available rooms";
 
+        // Only as many students as there are free beds can be placed
+        int freeBeds = availableRooms.stream().mapToInt(Room::getRemainingCapacity).sum();
+        List<Student> waitingStudents = waitlistService.getWaitingStudentsByRoomType(roomType, freeBeds);
+
+        List<Student> allocated = new ArrayList<>();
         int roomIndex = 0;
         for (Student s : waitingStudents) {
             if (roomIndex >= availableRooms.size()) break;
@@ -37,22 +64,155 @@ public class AllocationService {
             roommateService.assignStudentToRoom(s, r);
 
             roomService.updateOccupancy(r, 1);
-            waitlistService.removeFromWaitlist(s);
+            allocated.add(s);
 
             historyService.logAllocation(s, r, "New Allocation");
 
             if (r.getOccupancy() >= r.getCapacity()) roomIndex++;
         }
+        // Allocated students leave the waitlist together, one DELETE per chunk
+        waitlistService.removeFromWaitlist(allocated);
 
         return "✅ Allocation completed successfully!";
     }
 
+    /**
+     * Batch variant of allocateRooms: plans every assignment in memory using the
+     * same fill order, then writes roommates, rooms, students, waitlist and
+     * history rows as JDBC batches in one transaction.
+     * @param roomType Room type to allocate
+     * @return rows and statements written per table
+     */
+    @Transactional
+    public BatchWriteReport allocateRoomsBatch(RoomType roomType) {
+        List<Room> availableRooms = roomService.getAvailableRoomsByType(roomType);
+        int freeBeds = availableRooms.stream().mapToInt(Room::getRemainingCapacity).sum();
+        List<Long> waitingStudentIds = waitlistService.getWaitingStudentIdsByRoomType(roomType, freeBeds);
+
+        AllocationPlan plan = new AllocationPlan("New Allocation");
+        fill(plan, availableRooms, waitingStudentIds);
+
+        return commitPlan(plan);
+    }
+
+    /**
+     * Targeted pass for newly opened rooms: for each room type among them, the
+     * top waiting students for that type fill these rooms only, in the
+     * allocateRoomsBatch order. Other rooms are not touched.
+     * @param rooms New rooms, e.g. from RoomService.provisionBlock
+     * @return rows and statements written per table
+     */
+    @Transactional
+    public BatchWriteReport allocateIntoRooms(Collection<Room> rooms) {
+        Map<RoomType, List<Room>> roomsByType = rooms.stream()
+                .filter(Room::hasAvailableSpace)
+                .collect(Collectors.groupingBy(Room::getRoomType, TreeMap::new, Collectors.toList()));
+
+        AllocationPlan plan = new AllocationPlan("New Block Allocation");
+        roomsByType.forEach((roomType, typeRooms) -> {
+            int freeBeds = typeRooms.stream().mapToInt(Room::getRemainingCapacity).sum();
+            fill(plan, typeRooms, waitlistService.getWaitingStudentIdsByRoomType(roomType, freeBeds));
+        });
+
+        return commitPlan(plan);
+    }
+
+    /**
+     * Place students in list order, filling each room before moving to the next
+     */
+    private static void fill(AllocationPlan plan, List<Room> rooms, List<Long> studentIds) {
+        rooms.forEach(plan::trackRoom);
+        int roomIndex = 0;
+        for (Long studentId : studentIds) {
+            while (roomIndex < rooms.size()
+                    && plan.getRemainingCapacity(rooms.get(roomIndex).getRoomId()) == 0) {
+                roomIndex++;
+            }
+            if (roomIndex >= rooms.size()) break;
+            plan.assign(studentId, rooms.get(roomIndex).getRoomId());
+        }
+    }
+
+    /**
+     * Compatibility-aware batch allocation: each waiting student goes to the
+     * partially occupied room whose current occupants fit them best, and only
+     * then to an empty room. Written the same way as allocateRoomsBatch.
+     * @param roomType Room type to allocate
+     * @return rows and statements written per table
+     */
+    @Transactional
+    public BatchWriteReport allocateRoomsByCompatibility(RoomType roomType) {
+        List<Room> availableRooms = roomService.getAvailableRoomsByType(roomType);
+        int freeBeds = availableRooms.stream().mapToInt(Room::getRemainingCapacity).sum();
+        List<Long> waitingStudentIds = waitlistService.getWaitingStudentIdsByRoomType(roomType, freeBeds);
+
+        return commitPlan(compatibilityAllocator.plan(roomType, availableRooms, waitingStudentIds));
+    }
+
+    /**
+     * Pairing allocation for two-bed rooms: the top waiting students are paired
+     * by an approximate maximum-weight compatibility matching and each pair is
+     * placed in the same room.
+     * @param roomType Room type to allocate (normally Double)
+     * @return rows and statements written per table
+     */
+    @Transactional
+    public BatchWriteReport allocateRoomsByPairing(RoomType roomType) {
+        List<Room> availableRooms = roomService.getAvailableRoomsByType(roomType);
+        int freeBeds = availableRooms.stream().mapToInt(Room::getRemainingCapacity).sum();
+        List<Long> waitingStudentIds = waitlistService.getWaitingStudentIdsByRoomType(roomType, freeBeds);
+
+        return commitPlan(pairingAllocator.plan(roomType, availableRooms, waitingStudentIds));
+    }
+
+    /**
+     * Group formation for three- and four-bed rooms: the top waiting students
+     * are split into room-sized groups by parallel simulated annealing and each
+     * group is placed in its own empty room.
+     * @param roomType Room type to allocate (normally Triple or Quad)
+     * @return rows and statements written per table
+     */
+    @Transactional
+    public BatchWriteReport allocateRoomsByGroups(RoomType roomType) {
+        List<Room> availableRooms = roomService.getAvailableRoomsByType(roomType);
+        int freeBeds = availableRooms.stream().mapToInt(Room::getRemainingCapacity).sum();
+        List<Long> waitingStudentIds = waitlistService.getWaitingStudentIdsByRoomType(roomType, freeBeds);
+
+        return commitPlan(groupAllocator.plan(roomType, availableRooms, waitingStudentIds));
+    }
+
+    /**
+     * Campus-wide allocation: every waiting student and every available room in
+     * one min-cost max-flow pass, so students can fall back to other room types
+     * when their preferred type is full.
+     * @return rows and statements written per table
+     */
+    @Transactional
+    public BatchWriteReport allocateGlobally() {
+        return commitPlan(globalAllocator.plan(roomService.getAvailableRooms()));
+    }
+
+    private BatchWriteReport commitPlan(AllocationPlan plan) {
+        BatchWriteReport report = batchWriter.commit(plan);
+        report.setNote(plan.getNote());
+        List<Long> assigned = plan.getAssignments().stream()
+                .map(AllocationPlan.Assignment::getStudentId)
+                .collect(Collectors.toList());
+        waitlistEngine.removeAfterCommit(assigned);
+        candidateIndex.removeAfterCommit(assigned);
+        topKIndex.removeAfterCommit(assigned);
+        // The batch writer bypasses the services that publish counter events
+        counters.reconcileAfterCommit();
+        return report;
+    }
+
     public void deallocateStudent(Student s, String reason) {
         Room room = s.getAllocatedRoom();
         if (room != null) {
             roomService.updateOccupancy(room, -1);
             s.setAllocatedRoom(null);
-            s.setStatus("Left");
+            s.setStatus(StudentStatus.LEFT);
+            // Publishes the status change
             studentService.saveStudent(s);
 
             historyService.logDeallocation(s, room, reason);
@@ -7,8 +7,12 @@ import org.example.dsa_proj.Models.AllocationHistory;
 import org.example.dsa_proj.Rep.AllocHistRepo;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 public class AllochistService {
@@ -37,11 +41,25 @@ public class AllochistService {
     /**
      * Get all allocation history
      * @return List of all allocation history records
+     * @deprecated loads the whole table into memory; use {@link #streamAllocHistory()}
      */
+    @Deprecated
     public List<AllocationHistory> getAllocHistory() {
         return historyRepo.findAll();
     }
 
+    /**
+     * Stream every allocation history record as a scalar row, oldest first, without
+     * loading entities: allocationId, studentId, studentName, roomId, roomNumber,
+     * allocationDate, deallocationDate, reason, notes, createdBy
+     * @return stream backed by a database cursor; the caller must be inside a
+     *         transaction and close the stream
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<Object[]> streamAllocHistory() {
+        return historyRepo.streamExportRows();
+    }
+
     /**
      * Save allocation history record
      * @param ah Allocation history record
@@ -0,0 +1,106 @@
+package org.example.dsa_proj.Service;
+
+import java.sql.Statement;
+import java.util.*;
+
+/**
+ * Batch Write Report
+ *
+ * Rows written and JDBC batch statements executed per table by a bulk write.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public class BatchWriteReport {
+
+    private final Map<String, TableStats> tables = new LinkedHashMap<>();
+    private long elapsedMillis;
+    private String note;
+
+    /**
+     * Record the result of a JdbcTemplate batch update
+     * @param table Table the batch wrote to
+     * @param result Update counts, one array per executed batch
+     */
+    public void record(String table, int[][] result) {
+        TableStats stats = tables.computeIfAbsent(table, TableStats::new);
+        for (int[] batch : result) {
+            stats.statements++;
+            for (int count : batch) {
+                // Drivers may report SUCCESS_NO_INFO for batched rows
+                stats.rows += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+        }
+    }
+
+    public Collection<TableStats> getTables() {
+        return Collections.unmodifiableCollection(tables.values());
+    }
+
+    public long getTotalRows() {
+        return tables.values().stream().mapToLong(TableStats::getRows).sum();
+    }
+
+    public long getTotalStatements() {
+        return tables.values().stream().mapToLong(TableStats::getStatements).sum();
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+
+    /**
+     * Get a one-line summary for flash messages and logs
+     * @return formatted per-table summary
+     */
+    public String getSummary() {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (TableStats stats : tables.values()) {
+            joiner.add(String.format("%s: %d rows in %d statements",
+                    stats.table, stats.rows, stats.statements));
+        }
+        return joiner + String.format(" (%d ms)", elapsedMillis) + (note != null ? " - " + note : "");
+    }
+
+    @Override
+    public String toString() {
+        return "BatchWriteReport{" + getSummary() + '}';
+    }
+
+    /**
+     * Counters for a single table
+     */
+    public static final class TableStats {
+        private final String table;
+        private long rows;
+        private long statements;
+
+        TableStats(String table) {
+            this.table = table;
+        }
+
+        public String getTable() {
+            return table;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public long getStatements() {
+            return statements;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.Room;
+import org.example.dsa_proj.Models.RoomType;
+import org.example.dsa_proj.Rep.RoomateRepo;
+import org.example.dsa_proj.Rep.waitlist;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Compatibility Allocator
+ *
+ * Plans waiting students into the partially occupied room whose current
+ * occupants fit them best, falling back to empty rooms once no partially
+ * occupied room has space.
+ *
+ * Occupant and student profiles are preloaded with one projection query each
+ * and encoded as {@link CompatibilityProfile}s. Rooms are grouped into buckets
+ * by the multiset of occupant profiles they hold, because every room in a
+ * bucket scores the same against a given student. A student is therefore
+ * scored once per distinct occupant mix rather than once per room, and no
+ * query is issued per room.
+ *
+ * Buckets are indexed by the occupants' gender, so a student is only scored
+ * against rooms of their own gender and never joins a room of another.
+ * Students with several preference rows use the one with the lowest ID.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+public class CompatibilityAllocator {
+
+    @Autowired
+    private RoomateRepo roomateRepo;
+
+    @Autowired
+    private waitlist waitRepo;
+
+    /**
+     * Build a compatibility-aware plan for one room type
+     * @param roomType Room type being allocated
+     * @param availableRooms Available rooms of that type
+     * @param waitingStudentIds Waiting students in priority order
+     * @return plan, not yet written
+     */
+    public AllocationPlan plan(RoomType roomType, List<Room> availableRooms, List<Long> waitingStudentIds) {
+        AllocationPlan plan = new AllocationPlan("Compatibility Allocation");
+        ProfileTable profiles = new ProfileTable();
+
+        Map<Long, List<Integer>> occupantsByRoom = new HashMap<>();
+        Set<Long> seenOccupants = new HashSet<>();
+        for (Object[] row : roomateRepo.findOccupantProfilesByRoomType(roomType)) {
+            // Students with several preference rows appear once, using the first (lowest ID)
+            if (!seenOccupants.add((Long) row[1])) continue;
+            occupantsByRoom.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                    .add(profiles.intern(CompatibilityProfile.fromRow(row, 2)));
+        }
+
+        Map<Long, Integer> studentProfiles = new HashMap<>();
+        for (Object[] row : waitRepo.findWaitingProfilesByRoomType(roomType)) {
+            studentProfiles.putIfAbsent((Long) row[0], profiles.intern(CompatibilityProfile.fromRow(row, 1)));
+        }
+
+        // Gender -> occupant mix -> rooms holding that mix
+        Map<Long, Map<List<Integer>, Deque<Long>>> bucketsByGender = new HashMap<>();
+        Deque<Long> emptyRooms = new ArrayDeque<>();
+        for (Room room : availableRooms) {
+            plan.trackRoom(room);
+            if (plan.getRemainingCapacity(room.getRoomId()) == 0) continue;
+            List<Integer> occupants = occupantsByRoom.get(room.getRoomId());
+            if (occupants == null) {
+                emptyRooms.add(room.getRoomId());
+            } else {
+                Long gender = profiles.gender(occupants);
+                // Rooms already holding several genders take no one else
+                if (gender == null) continue;
+                Collections.sort(occupants);
+                bucketsByGender.computeIfAbsent(gender, g -> new LinkedHashMap<>())
+                        .computeIfAbsent(occupants, k -> new ArrayDeque<>()).add(room.getRoomId());
+            }
+        }
+
+        for (Long studentId : waitingStudentIds) {
+            Integer profileId = studentProfiles.get(studentId);
+            if (profileId == null) continue;
+            Map<List<Integer>, Deque<Long>> buckets = bucketsByGender.computeIfAbsent(
+                    profiles.get(profileId).genderKey(), g -> new LinkedHashMap<>());
+
+            List<Integer> bestKey = null;
+            double bestScore = -1;
+            for (Map.Entry<List<Integer>, Deque<Long>> bucket : buckets.entrySet()) {
+                double score = profiles.averageScore(profileId, bucket.getKey());
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestKey = bucket.getKey();
+                    if (score >= CompatibilityProfile.MAX_SCORE) break;
+                }
+            }
+
+            Long roomId;
+            List<Integer> occupants;
+            Integer score;
+            if (bestKey != null) {
+                Deque<Long> rooms = buckets.get(bestKey);
+                roomId = rooms.poll();
+                if (rooms.isEmpty()) buckets.remove(bestKey);
+                occupants = new ArrayList<>(bestKey);
+                // Stored on the 0-100 scale used by existing roommate rows
+                score = (int) Math.round(bestScore * 100 / CompatibilityProfile.MAX_SCORE);
+            } else if (!emptyRooms.isEmpty()) {
+                roomId = emptyRooms.poll();
+                occupants = new ArrayList<>();
+                score = null;
+            } else {
+                // No room of this student's gender has space; others may still fit
+                continue;
+            }
+
+            plan.assign(studentId, roomId, score);
+            if (plan.getRemainingCapacity(roomId) > 0) {
+                occupants.add(profileId);
+                Collections.sort(occupants);
+                buckets.computeIfAbsent(occupants, k -> new ArrayDeque<>()).add(roomId);
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Distinct profiles, so identical students and occupants share one entry
+     */
+    private static final class ProfileTable {
+        private final Map<CompatibilityProfile, Integer> ids = new HashMap<>();
+        private final List<CompatibilityProfile> profiles = new ArrayList<>();
+
+        CompatibilityProfile get(int id) {
+            return profiles.get(id);
+        }
+
+        /**
+         * @return the occupants' shared gender key, or null if they differ
+         */
+        Long gender(List<Integer> occupants) {
+            long gender = profiles.get(occupants.get(0)).genderKey();
+            for (int occupant : occupants) {
+                if (profiles.get(occupant).genderKey() != gender) return null;
+            }
+            return gender;
+        }
+
+        int intern(CompatibilityProfile profile) {
+            return ids.computeIfAbsent(profile, p -> {
+                profiles.add(p);
+                return profiles.size() - 1;
+            });
+        }
+
+        double averageScore(int studentProfile, List<Integer> occupants) {
+            CompatibilityProfile student = profiles.get(studentProfile);
+            int total = 0;
+            for (int occupant : occupants) {
+                total += student.score(profiles.get(occupant));
+            }
+            return (double) total / occupants.size();
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package org.example.dsa_proj.Service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compatibility Profile
+ *
+ * Bit-packed copy of the fields that StudentService.calculateCompatibility and
+ * Preference.calculateCompatibilityScore compare, in two longs:
+ *
+ * - student word: gender (8 bits), branch (28 bits), preference type (28 bits)
+ * - preference word: study time, sleep time, noise level, cleanliness, roommate
+ *   gender preference (12 bits each) and a has-preference flag (bit 63)
+ *
+ * Student fields are free text, so each distinct value gets a dense code and
+ * two values are equal exactly when their codes are; null is code 0 and
+ * matches nothing. Because the codes are exact, the masked student word is
+ * also an exact blocking key (RoommateCandidateIndex, RoommateMatcher).
+ *
+ * Preference fields only take the values their @Pattern allows, so each value
+ * is given one bit of its field and two values are equal exactly when their
+ * masks intersect. "Flexible" (study, sleep, cleanliness) and "Any" (gender
+ * preference) are encoded as the full field mask and therefore intersect
+ * everything, and a null value is an empty mask.
+ *
+ * Scoring a pair is a few ANDs and compares with no allocation. A field never
+ * maps two values to the same code or bit: a value past its capacity is
+ * rejected with an IllegalStateException.
+ *
+ * {@link #score(CompatibilityProfile)} returns the same value as calling both
+ * entity methods and adding the results. The static methods work on the raw
+ * words so callers can keep them in primitive arrays ({@link CompatibilityVectors}).
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public final class CompatibilityProfile {
+
+    /** Highest preference score a pair can reach: a single matching 25-point factor */
+    public static final int MAX_PREFERENCE_SCORE = 25;
+
+    /** Highest score any pair can reach: 6 student points plus the preference maximum */
+    public static final int MAX_SCORE = 6 + MAX_PREFERENCE_SCORE;
+
+    private static final CodeField GENDER = new CodeField("gender", 0, 8);
+    private static final CodeField BRANCH = new CodeField("branch", 8, 28);
+    private static final CodeField PREFERENCE_TYPE = new CodeField("preference type", 36, 28);
+
+    private static final Field STUDY_TIME = new Field("study time", 0, 12);
+    private static final Field SLEEP_TIME = new Field("sleep time", 12, 12);
+    private static final Field NOISE_LEVEL = new Field("noise level", 24, 12);
+    private static final Field CLEANLINESS = new Field("cleanliness", 36, 12);
+    private static final Field GENDER_PREFERENCE = new Field("roommate gender preference", 48, 12);
+    private static final long HAS_PREFERENCE = 1L << 63;
+
+    private final long student;
+    private final long preference;
+
+    private CompatibilityProfile(long student, long preference) {
+        this.student = student;
+        this.preference = preference;
+    }
+
+    /**
+     * Build a profile from a projection row
+     * @param row values in the order gender, branch, preferenceType, hasPreference,
+     *            studyTime, sleepTime, noiseLevel, cleanliness, genderPreference
+     * @param offset index of the gender column in the row
+     * @return encoded profile
+     */
+    public static CompatibilityProfile fromRow(Object[] row, int offset) {
+        long student = encodeStudent((String) row[offset], (String) row[offset + 1], (String) row[offset + 2]);
+        long preference = row[offset + 3] == null ? 0L : encodePreference(
+                (String) row[offset + 4], (String) row[offset + 5], (String) row[offset + 6],
+                (String) row[offset + 7], (String) row[offset + 8]);
+        return new CompatibilityProfile(student, preference);
+    }
+
+    /**
+     * Encode the student-level fields; compared case-insensitively
+     * @return student word
+     */
+    public static long encodeStudent(String gender, String branch, String preferenceType) {
+        return GENDER.encodeIgnoreCase(gender) | BRANCH.encodeIgnoreCase(branch)
+                | PREFERENCE_TYPE.encodeIgnoreCase(preferenceType);
+    }
+
+    /**
+     * Encode the lifestyle fields of a Preference row
+     * @return preference word with the has-preference flag set
+     */
+    public static long encodePreference(String studyTime, String sleepTime, String noiseLevel,
+                                        String cleanliness, String genderPreference) {
+        return HAS_PREFERENCE
+                | STUDY_TIME.bitOrWildcard(studyTime, "Flexible")
+                | SLEEP_TIME.bitOrWildcard(sleepTime, "Flexible")
+                | NOISE_LEVEL.bit(noiseLevel)
+                | CLEANLINESS.bitOrWildcard(cleanliness, "Flexible")
+                | GENDER_PREFERENCE.bitOrWildcard(genderPreference, "Any");
+    }
+
+    /**
+     * Student score as StudentService.calculateCompatibility (0-6)
+     * @param a student word of the first student
+     * @param b student word of the second student
+     */
+    public static int studentScore(long a, long b) {
+        return (GENDER.matches(a, b) ? 2 : 0)
+                + (BRANCH.matches(a, b) ? 1 : 0)
+                + (PREFERENCE_TYPE.matches(a, b) ? 3 : 0);
+    }
+
+    /**
+     * Preference score as Preference.calculateCompatibilityScore
+     * @param a preference word of the first student
+     * @param b preference word of the second student
+     * @return preference score (0 when either side has no Preference row)
+     */
+    public static int preferenceScore(long a, long b) {
+        if ((a & b & HAS_PREFERENCE) == 0) return 0;
+        int score = 0;
+        int factors = 0;
+        long ma = STUDY_TIME.mask & a, mb = STUDY_TIME.mask & b;
+        if (ma != 0 && mb != 0) {
+            factors++;
+            if ((ma & mb) != 0) score += 20;
+        }
+        ma = SLEEP_TIME.mask & a;
+        mb = SLEEP_TIME.mask & b;
+        if (ma != 0 && mb != 0) {
+            factors++;
+            if ((ma & mb) != 0) score += 15;
+        }
+        ma = NOISE_LEVEL.mask & a;
+        mb = NOISE_LEVEL.mask & b;
+        if (ma != 0 && mb != 0) {
+            factors++;
+            if ((ma & mb) != 0) score += 25;
+        }
+        ma = CLEANLINESS.mask & a;
+        mb = CLEANLINESS.mask & b;
+        if (ma != 0 && mb != 0) {
+            factors++;
+            if ((ma & mb) != 0) score += 20;
+        }
+        ma = GENDER_PREFERENCE.mask & a;
+        mb = GENDER_PREFERENCE.mask & b;
+        if (ma != 0 && mb != 0) {
+            factors++;
+            if ((ma & mb) != 0) score += 20;
+        }
+        return factors > 0 ? score / factors : 0;
+    }
+
+    /**
+     * Compatibility of two profiles: student score (0-6) plus preference score
+     * @param other Other profile
+     * @return combined compatibility score
+     */
+    public int score(CompatibilityProfile other) {
+        return studentScore(student, other.student) + preferenceScore(preference, other.preference);
+    }
+
+    /**
+     * Lifestyle part only, as Preference.calculateCompatibilityScore
+     * @param other Other profile
+     * @return preference score (0 when either side has no Preference row)
+     */
+    public int preferenceScore(CompatibilityProfile other) {
+        return preferenceScore(preference, other.preference);
+    }
+
+    /**
+     * Blocking key over the student-level fields, for grouping candidates
+     * @param withBranch include branch
+     * @param withPreferenceType include preference type
+     * @return student word restricted to gender and the selected fields
+     */
+    public long blockingKey(boolean withBranch, boolean withPreferenceType) {
+        return student & (GENDER.mask
+                | (withBranch ? BRANCH.mask : 0L)
+                | (withPreferenceType ? PREFERENCE_TYPE.mask : 0L));
+    }
+
+    /**
+     * Gender part of the student word; equal keys mean the same gender
+     * @return gender code, 0 when gender is unknown
+     */
+    public long genderKey() {
+        return student & GENDER.mask;
+    }
+
+    /**
+     * Gender key of a student's gender text, equal to {@link #genderKey()} of their profile
+     * @return gender code, 0 when gender is unknown
+     */
+    public static long genderKey(String gender) {
+        return GENDER.encodeIgnoreCase(gender);
+    }
+
+    public long getStudentBits() {
+        return student;
+    }
+
+    public long getPreferenceBits() {
+        return preference;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CompatibilityProfile)) return false;
+        CompatibilityProfile p = (CompatibilityProfile) o;
+        return student == p.student && preference == p.preference;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(student) * 31 + Long.hashCode(preference);
+    }
+
+    /**
+     * One-hot field of the preference word: a value dictionary and its bit range
+     */
+    private static final class Field {
+        final String name;
+        final int shift;
+        final int width;
+        final long mask;
+        final Map<String, Integer> codes = new ConcurrentHashMap<>();
+        final AtomicInteger next = new AtomicInteger();
+
+        Field(String name, int shift, int width) {
+            this.name = name;
+            this.shift = shift;
+            this.width = width;
+            this.mask = ((1L << width) - 1) << shift;
+        }
+
+        long bit(String value) {
+            if (value == null) return 0L;
+            int code = codes.computeIfAbsent(value, v -> {
+                int c = next.getAndIncrement();
+                if (c >= width) {
+                    throw new IllegalStateException("Compatibility profiles support at most "
+                            + width + " distinct " + name + " values; cannot add '" + v + "'");
+                }
+                return c;
+            });
+            return 1L << (shift + code);
+        }
+
+        long bitOrWildcard(String value, String wildcard) {
+            return wildcard.equals(value) ? mask : bit(value);
+        }
+    }
+
+    /**
+     * Dense-coded field of the student word: a value dictionary and its bit range
+     */
+    private static final class CodeField {
+        final String name;
+        final int shift;
+        final long maxCode;
+        final long mask;
+        final Map<String, Long> codes = new ConcurrentHashMap<>();
+        final AtomicLong last = new AtomicLong();
+
+        CodeField(String name, int shift, int width) {
+            this.name = name;
+            this.shift = shift;
+            this.maxCode = (1L << width) - 1;
+            this.mask = maxCode << shift;
+        }
+
+        long encodeIgnoreCase(String value) {
+            if (value == null) return 0L;
+            long code = codes.computeIfAbsent(value.toLowerCase(Locale.ROOT), v -> {
+                long c = last.incrementAndGet();
+                if (c > maxCode) {
+                    throw new IllegalStateException("Compatibility profiles support at most "
+                            + maxCode + " distinct " + name + " values; cannot add '" + v + "'");
+                }
+                return c;
+            });
+            return code << shift;
+        }
+
+        /**
+         * @return true when both words hold the same non-null value
+         */
+        boolean matches(long a, long b) {
+            long field = a & mask;
+            return field != 0 && field == (b & mask);
+        }
+    }
+}
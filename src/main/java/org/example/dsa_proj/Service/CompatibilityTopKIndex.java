@@ -0,0 +1,390 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Rep.StudentRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Compatibility Top-K Index
+ *
+ * Keeps, for every waiting student, their K most compatible waiting students
+ * by full compatibility (student score plus preference score, see
+ * {@link CompatibilityProfile}). Rows are flat int arrays sorted best first,
+ * so reading suggestions costs O(K).
+ *
+ * When one student changes, only the affected rows are touched: rows that
+ * contained the student are recomputed, every other row gets a single
+ * insertion attempt against its current worst entry, and the student's own
+ * row is computed once. A removed student's ordinal goes to the next student
+ * added, so row scans stay as long as the waiting list.
+ *
+ * A full rebuild reads the waiting students, then computes a fresh table in
+ * the background, in parallel on a pool owned by this service, and swaps it in
+ * at the end. Reads and incremental changes only wait for the swap; changes
+ * made while the table was being built are replayed onto it. Until the first
+ * build finishes, suggestions are empty.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+public class CompatibilityTopKIndex {
+
+    @Autowired
+    private StudentRepo studentRepo;
+
+    private final int k;
+    private final ForkJoinPool pool;
+    // One rebuild at a time, off the caller's thread
+    private final ExecutorService builder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "compatibility-topk-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Table table;
+    // Changes applied since the oldest running rebuild read its rows; null when none is running
+    private List<Change> changesDuringRebuild;
+    private int rebuildsRunning;
+
+    public CompatibilityTopKIndex(@Value("${compatibility.topk.size:10}") int k,
+                                  @Value("${compatibility.topk.parallelism:0}") int parallelism) {
+        this.k = Math.max(1, k);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.table = new Table(this.k, 16);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        builder.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    /**
+     * Rebuild in the background once the application is ready (runs after data.sql)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reloadOnStartup() {
+        reloadAsync();
+    }
+
+    /**
+     * Read every waiting student on the calling thread, then build and swap in
+     * a fresh table in the background
+     * @return completes once the new table is in use
+     */
+    public CompletableFuture<Void> reloadAsync() {
+        int replayFrom = beginRebuild();
+        List<Object[]> rows;
+        try {
+            rows = studentRepo.findWaitingProfiles();
+        } catch (RuntimeException e) {
+            endRebuild(null, replayFrom);
+            throw e;
+        }
+        return CompletableFuture.runAsync(() -> {
+            Table built = null;
+            try {
+                built = build(rows);
+            } finally {
+                endRebuild(built, replayFrom);
+            }
+        }, builder);
+    }
+
+    /**
+     * Re-read the given students once the current transaction commits: waiting
+     * students are inserted or updated, everyone else is dropped
+     * @param studentIds Students whose status or Preference changed
+     */
+    public void refreshAfterCommit(Collection<Long> studentIds) {
+        List<Long> ids = new ArrayList<>(studentIds);
+        AfterCommit.run(() -> refresh(ids));
+    }
+
+    /**
+     * Drop students once the current transaction commits
+     * @param studentIds Students who stopped waiting
+     */
+    public void removeAfterCommit(Collection<Long> studentIds) {
+        List<Long> ids = new ArrayList<>(studentIds);
+        AfterCommit.run(() -> removeAll(ids));
+    }
+
+    public void refresh(Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) return;
+        Map<Long, CompatibilityProfile> profiles = new LinkedHashMap<>();
+        for (Object[] row : studentRepo.findWaitingProfilesByIds(studentIds)) {
+            profiles.putIfAbsent((Long) row[0], CompatibilityProfile.fromRow(row, 1));
+        }
+        synchronized (this) {
+            for (Long id : studentIds) {
+                CompatibilityProfile profile = profiles.get(id);
+                if (profile != null) {
+                    upsert(id, profile);
+                } else {
+                    remove(id);
+                }
+            }
+        }
+    }
+
+    public synchronized void removeAll(Collection<Long> studentIds) {
+        for (Long id : studentIds) remove(id);
+    }
+
+    /**
+     * Insert a waiting student or apply their changed profile
+     * @param studentId Student ID
+     * @param profile Current profile
+     */
+    public synchronized void upsert(long studentId, CompatibilityProfile profile) {
+        record(new Change(studentId, profile));
+        table.upsert(studentId, profile);
+    }
+
+    /**
+     * Drop a student who is no longer waiting
+     * @param studentId Student ID
+     * @return true if the student was indexed
+     */
+    public synchronized boolean remove(long studentId) {
+        record(new Change(studentId, null));
+        return table.remove(studentId);
+    }
+
+    /**
+     * Current suggestions for a student
+     * @param studentId Student ID
+     * @return up to K candidates, most compatible first; empty when not waiting
+     */
+    public synchronized List<Candidate> getTop(long studentId) {
+        return table.top(studentId);
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    private synchronized int beginRebuild() {
+        if (rebuildsRunning++ == 0) changesDuringRebuild = new ArrayList<>();
+        return changesDuringRebuild.size();
+    }
+
+    /**
+     * Swap in a built table and replay the changes made since its rows were read
+     * @param built New table, or null when the build failed
+     * @param replayFrom Index of the first change to replay
+     */
+    private synchronized void endRebuild(Table built, int replayFrom) {
+        if (built != null) {
+            List<Change> changes = changesDuringRebuild;
+            for (int i = replayFrom; i < changes.size(); i++) {
+                Change change = changes.get(i);
+                if (change.profile != null) {
+                    built.upsert(change.studentId, change.profile);
+                } else {
+                    built.remove(change.studentId);
+                }
+            }
+            table = built;
+        }
+        if (--rebuildsRunning == 0) changesDuringRebuild = null;
+    }
+
+    private void record(Change change) {
+        if (changesDuringRebuild != null) changesDuringRebuild.add(change);
+    }
+
+    /**
+     * Build a complete table from profile rows; touches no shared state
+     */
+    private Table build(List<Object[]> rows) {
+        Table built = new Table(k, rows.size());
+        for (Object[] row : rows) {
+            long studentId = (Long) row[0];
+            if (built.vectors.ordinalOf(studentId) >= 0) continue; // first Preference row wins
+            built.add(studentId, CompatibilityProfile.fromRow(row, 1));
+        }
+        int n = built.vectors.size();
+        try {
+            pool.submit(() -> IntStream.range(0, n).parallel().forEach(built::computeRow)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Compatibility index rebuild was interrupted", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Compatibility index rebuild failed: " + e.getMessage(), e);
+        }
+        return built;
+    }
+
+    /**
+     * A student inserted or changed (profile set) or dropped (profile null)
+     */
+    private static final class Change {
+        final long studentId;
+        final CompatibilityProfile profile;
+
+        Change(long studentId, CompatibilityProfile profile) {
+            this.studentId = studentId;
+            this.profile = profile;
+        }
+    }
+
+    /**
+     * Vectors and rows of one generation of the index. Not thread-safe; rows
+     * are computed in parallel only while the table is private to a build.
+     */
+    private static final class Table {
+        private final int k;
+        private final CompatibilityVectors vectors;
+        private boolean[] active;
+        private int[] rowOrdinals = new int[0];
+        private int[] rowScores = new int[0];
+        private int[] rowSizes = new int[0];
+
+        Table(int k, int expectedSize) {
+            this.k = k;
+            this.vectors = new CompatibilityVectors(expectedSize);
+            this.active = new boolean[Math.max(16, expectedSize)];
+        }
+
+        /**
+         * Register a student without touching any row
+         * @return the student's ordinal
+         */
+        int add(long studentId, CompatibilityProfile profile) {
+            int ordinal = vectors.add(studentId, profile.getStudentBits(), profile.getPreferenceBits());
+            if (ordinal >= active.length) active = Arrays.copyOf(active, Math.max(ordinal + 1, active.length * 2));
+            ensureRowCapacity(vectors.size());
+            active[ordinal] = true;
+            return ordinal;
+        }
+
+        void upsert(long studentId, CompatibilityProfile profile) {
+            int ordinal = add(studentId, profile);
+            for (int row = 0; row < vectors.size(); row++) {
+                if (!active[row] || row == ordinal) continue;
+                if (rowContains(row, ordinal)) {
+                    computeRow(row); // its score for this student may have dropped
+                } else {
+                    offer(row, ordinal, vectors.score(row, ordinal));
+                }
+            }
+            computeRow(ordinal);
+        }
+
+        boolean remove(long studentId) {
+            int ordinal = vectors.ordinalOf(studentId);
+            if (ordinal < 0 || !active[ordinal]) return false;
+            active[ordinal] = false;
+            rowSizes[ordinal] = 0;
+            for (int row = 0; row < vectors.size(); row++) {
+                if (active[row] && rowContains(row, ordinal)) computeRow(row);
+            }
+            // No row refers to the ordinal any more, so it can be reused
+            vectors.remove(studentId);
+            return true;
+        }
+
+        List<Candidate> top(long studentId) {
+            int ordinal = vectors.ordinalOf(studentId);
+            if (ordinal < 0 || !active[ordinal]) return new ArrayList<>();
+            List<Candidate> result = new ArrayList<>(rowSizes[ordinal]);
+            int base = ordinal * k;
+            for (int i = 0; i < rowSizes[ordinal]; i++) {
+                result.add(new Candidate(vectors.studentId(rowOrdinals[base + i]), rowScores[base + i]));
+            }
+            return result;
+        }
+
+        /**
+         * Fill one row by scanning every active student; touches only that row
+         */
+        void computeRow(int row) {
+            rowSizes[row] = 0;
+            if (!active[row]) return;
+            int n = vectors.size();
+            int last = row * k + k - 1;
+            for (int other = 0; other < n; other++) {
+                if (other == row || !active[other]) continue;
+                int score = vectors.score(row, other);
+                // Cheap reject before the ordered insert once the row is full
+                if (rowSizes[row] == k && score < rowScores[last]) continue;
+                offer(row, other, score);
+            }
+        }
+
+        /**
+         * Insert a candidate into a row kept sorted best first (score, then lower student ID)
+         */
+        private void offer(int row, int candidate, int score) {
+            int base = row * k;
+            int size = rowSizes[row];
+            long candidateId = vectors.studentId(candidate);
+            if (size == k && !better(score, candidateId, rowScores[base + k - 1], rowOrdinals[base + k - 1])) return;
+
+            int i = Math.min(size, k - 1);
+            while (i > 0 && better(score, candidateId, rowScores[base + i - 1], rowOrdinals[base + i - 1])) {
+                rowScores[base + i] = rowScores[base + i - 1];
+                rowOrdinals[base + i] = rowOrdinals[base + i - 1];
+                i--;
+            }
+            rowScores[base + i] = score;
+            rowOrdinals[base + i] = candidate;
+            if (size < k) rowSizes[row] = size + 1;
+        }
+
+        private boolean better(int score, long studentId, int otherScore, int otherOrdinal) {
+            return score != otherScore ? score > otherScore : studentId < vectors.studentId(otherOrdinal);
+        }
+
+        private boolean rowContains(int row, int ordinal) {
+            int base = row * k;
+            for (int i = 0; i < rowSizes[row]; i++) {
+                if (rowOrdinals[base + i] == ordinal) return true;
+            }
+            return false;
+        }
+
+        private void ensureRowCapacity(int rows) {
+            if (rowSizes.length >= rows) return;
+            int capacity = Math.max(rows, rowSizes.length * 2);
+            rowOrdinals = Arrays.copyOf(rowOrdinals, capacity * k);
+            rowScores = Arrays.copyOf(rowScores, capacity * k);
+            rowSizes = Arrays.copyOf(rowSizes, capacity);
+        }
+    }
+
+    /**
+     * One suggested roommate and their combined compatibility score
+     */
+    public static final class Candidate {
+        private final long studentId;
+        private final int score;
+
+        Candidate(long studentId, int score) {
+            this.studentId = studentId;
+            this.score = score;
+        }
+
+        public long getStudentId() {
+            return studentId;
+        }
+
+        public int getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.dsa_proj.Service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compatibility Vectors
+ *
+ * Packed compatibility words ({@link CompatibilityProfile}) of many students in
+ * parallel primitive arrays indexed by a dense student ordinal, so scoring
+ * loops read two longs per student instead of following object references.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public final class CompatibilityVectors {
+
+    private long[] studentIds;
+    private long[] studentBits;
+    private long[] preferenceBits;
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private int[] freeOrdinals = new int[0];
+    private int freeCount;
+    private int size;
+
+    public CompatibilityVectors(int expectedSize) {
+        int capacity = Math.max(16, expectedSize);
+        studentIds = new long[capacity];
+        studentBits = new long[capacity];
+        preferenceBits = new long[capacity];
+    }
+
+    /**
+     * Vectors for an array of profiles; ordinals follow the array index
+     * @param profiles Profiles, ordinal = index
+     * @return vectors with student ids equal to the ordinals
+     */
+    public static CompatibilityVectors of(CompatibilityProfile[] profiles) {
+        CompatibilityVectors vectors = new CompatibilityVectors(profiles.length);
+        for (int i = 0; i < profiles.length; i++) {
+            vectors.add(i, profiles[i].getStudentBits(), profiles[i].getPreferenceBits());
+        }
+        return vectors;
+    }
+
+    /**
+     * Add or replace a student's words
+     * @param studentId Student ID
+     * @param student Student word
+     * @param preference Preference word
+     * @return dense ordinal of the student
+     */
+    public int add(long studentId, long student, long preference) {
+        Integer existing = ordinals.get(studentId);
+        int ordinal = existing != null ? existing : freeCount > 0 ? freeOrdinals[--freeCount] : size++;
+        if (ordinal == studentIds.length) {
+            int capacity = studentIds.length * 2;
+            studentIds = Arrays.copyOf(studentIds, capacity);
+            studentBits = Arrays.copyOf(studentBits, capacity);
+            preferenceBits = Arrays.copyOf(preferenceBits, capacity);
+        }
+        if (existing == null) ordinals.put(studentId, ordinal);
+        studentIds[ordinal] = studentId;
+        studentBits[ordinal] = student;
+        preferenceBits[ordinal] = preference;
+        return ordinal;
+    }
+
+    /**
+     * Forget a student; their ordinal is handed to the next student added
+     * @param studentId Student ID
+     * @return the freed ordinal, or -1 when absent
+     */
+    public int remove(long studentId) {
+        Integer ordinal = ordinals.remove(studentId);
+        if (ordinal == null) return -1;
+        if (freeCount == freeOrdinals.length) {
+            freeOrdinals = Arrays.copyOf(freeOrdinals, Math.max(16, freeCount * 2));
+        }
+        freeOrdinals[freeCount++] = ordinal;
+        return ordinal;
+    }
+
+    /**
+     * @return ordinal of the student, or -1 when absent
+     */
+    public int ordinalOf(long studentId) {
+        Integer ordinal = ordinals.get(studentId);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    public long studentId(int ordinal) {
+        return studentIds[ordinal];
+    }
+
+    public long studentBits(int ordinal) {
+        return studentBits[ordinal];
+    }
+
+    public long preferenceBits(int ordinal) {
+        return preferenceBits[ordinal];
+    }
+
+    /**
+     * @return one past the highest ordinal handed out; removed ordinals below it are free
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Combined score of two ordinals, as CompatibilityProfile.score
+     */
+    public int score(int a, int b) {
+        return CompatibilityProfile.studentScore(studentBits[a], studentBits[b])
+                + CompatibilityProfile.preferenceScore(preferenceBits[a], preferenceBits[b]);
+    }
+
+    /**
+     * Preference-only score of two ordinals
+     */
+    public int preferenceScore(int a, int b) {
+        return CompatibilityProfile.preferenceScore(preferenceBits[a], preferenceBits[b]);
+    }
+}
@@ -0,0 +1,259 @@
+package org.example.dsa_proj.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Dashboard Stream Service
+ *
+ * Pushes live dashboard updates to subscribed browsers as Server-Sent Events.
+ * Occupancy and waitlist events are collected as they commit and flushed on
+ * a fixed tick, so every subscriber gets at most one "stats"
+ * message per tick however many changes happened. A message carries the
+ * current totals from {@link HostelCounters}, the change in each total since
+ * the previous message, and the bed and waitlist changes per room type.
+ *
+ * Subscribers are SseEmitter instances on async servlet requests: an idle
+ * connection holds no request thread, only its socket and emitter. A comment
+ * line is sent on quiet connections so dead ones are noticed and dropped.
+ *
+ * The tick only queues messages. Each subscriber has its own outbox, drained
+ * in order by a task on a dedicated sender pool, so a client that stops
+ * reading holds one sender thread instead of the scheduler. A subscriber
+ * whose current write has been blocked longer than the write timeout is
+ * dropped on the next tick.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+public class DashboardStreamService {
+
+    private static final String EVENT_NAME = "stats";
+
+    @Autowired
+    private HostelCounters counters;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${dashboard.stream.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    @Value("${dashboard.stream.heartbeat-ms:20000}")
+    private long heartbeatMillis;
+
+    private final long writeTimeoutNanos;
+    private final ExecutorService sender;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    // Changes collected since the last flush, guarded by "this"
+    private Map<String, Long> occupancyByType = new TreeMap<>();
+    private Map<String, Long> waitlistByType = new TreeMap<>();
+    private Set<Long> changedRooms = new TreeSet<>();
+    private Map<String, Long> lastTotals = new LinkedHashMap<>();
+    private long lastSentAt = System.currentTimeMillis();
+
+    public DashboardStreamService(@Value("${dashboard.stream.write-timeout-ms:10000}") long writeTimeoutMillis,
+                                  @Value("${dashboard.stream.send-threads:4}") int sendThreads) {
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+        AtomicInteger threads = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(Math.max(1, sendThreads), runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-stream-send-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Register a subscriber and send it the current totals straight away
+     * @return emitter for the async response
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("totals", totals());
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(toJson(message)));
+        } catch (IOException e) {
+            subscribers.remove(subscriber);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onOccupancyChanged(RoomOccupancyChangedEvent event) {
+        occupancyByType.merge(String.valueOf(event.getRoomType()), (long) event.getOccupancyChange(), Long::sum);
+        if (event.getRoomId() != null) changedRooms.add(event.getRoomId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onWaitlistChanged(WaitlistChangedEvent event) {
+        waitlistByType.merge(String.valueOf(event.getRoomType()), (long) event.getChange(), Long::sum);
+    }
+
+    /**
+     * Send one coalesced message to every subscriber if anything changed since
+     * the previous one; otherwise keep quiet connections alive
+     */
+    @Scheduled(fixedRateString = "${dashboard.stream.interval-ms:1000}")
+    public void flush() {
+        Map<String, Object> message = drain();
+        long now = System.currentTimeMillis();
+        if (message != null) {
+            String json = toJson(message);
+            broadcast(() -> SseEmitter.event().name(EVENT_NAME).data(json));
+            lastSentAt = now;
+        } else if (now - lastSentAt >= heartbeatMillis) {
+            broadcast(() -> SseEmitter.event().comment("keep-alive"));
+            lastSentAt = now;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) subscriber.emitter.complete();
+        subscribers.clear();
+        sender.shutdownNow();
+    }
+
+    /**
+     * Take the collected changes and compare the totals with the last message.
+     * Totals are diffed rather than summed from events so that bulk writes
+     * which only re-seed the counters are still reported.
+     * @return message to send, or null when nothing changed
+     */
+    private synchronized Map<String, Object> drain() {
+        Map<String, Long> totals = totals();
+        Map<String, Long> changes = new LinkedHashMap<>();
+        totals.forEach((name, value) -> {
+            long change = value - lastTotals.getOrDefault(name, value);
+            if (change != 0) changes.put(name, change);
+        });
+        occupancyByType.values().removeIf(v -> v == 0);
+        waitlistByType.values().removeIf(v -> v == 0);
+        boolean changed = !changes.isEmpty() || !occupancyByType.isEmpty()
+                || !waitlistByType.isEmpty() || !changedRooms.isEmpty();
+        lastTotals = totals;
+        if (!changed) return null;
+
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("totals", totals);
+        message.put("changes", changes);
+        message.put("occupancyByType", occupancyByType);
+        message.put("waitlistByType", waitlistByType);
+        message.put("changedRooms", changedRooms);
+        occupancyByType = new TreeMap<>();
+        waitlistByType = new TreeMap<>();
+        changedRooms = new TreeSet<>();
+        return message;
+    }
+
+    private Map<String, Long> totals() {
+        Map<String, Long> totals = new LinkedHashMap<>();
+        totals.put("totalStudents", counters.getTotalStudents());
+        totals.put("allocatedStudents", counters.getAllocatedStudents());
+        totals.put("waitingStudents", counters.getWaitingStudents());
+        totals.put("totalRooms", counters.getTotalRooms());
+        totals.put("availableRooms", counters.getAvailableRooms());
+        totals.put("fullRooms", counters.getFullRooms());
+        totals.put("waitlistSize", counters.getWaitlistSize());
+        return totals;
+    }
+
+    /**
+     * Queue an event for every subscriber, dropping those stuck on a write
+     * @param event Builds the event; a builder can only be sent once
+     */
+    private void broadcast(Supplier<SseEmitter.SseEventBuilder> event) {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long since = subscriber.writingSince;
+            if (since != 0 && now - since > writeTimeoutNanos) {
+                subscribers.remove(subscriber);
+                subscriber.emitter.completeWithError(new IOException("Dashboard stream write timed out"));
+                continue;
+            }
+            subscriber.outbox.add(event.get());
+            if (subscriber.draining.compareAndSet(false, true)) sender.execute(() -> deliver(subscriber));
+        }
+    }
+
+    /**
+     * Send a subscriber's queued events in order (runs on the sender pool)
+     */
+    private void deliver(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.outbox.poll()) != null) {
+                subscriber.writingSince = System.nanoTime();
+                subscriber.emitter.send(event);
+                subscriber.writingSince = 0;
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the servlet container completes the request
+            subscribers.remove(subscriber);
+            subscriber.outbox.clear();
+        } finally {
+            subscriber.writingSince = 0;
+            subscriber.draining.set(false);
+        }
+        // An event queued after the last poll but before the flag was cleared
+        if (!subscriber.outbox.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> deliver(subscriber));
+        }
+    }
+
+    /**
+     * A subscribed emitter and the events waiting to be written to it
+     */
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final Queue<SseEmitter.SseEventBuilder> outbox = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean draining = new AtomicBoolean();
+        // System.nanoTime() when the current write started, 0 when not writing
+        volatile long writingSince;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    private String toJson(Map<String, Object> message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise dashboard update", e);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.dsa_proj.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dsa_proj.Rep.RoomRepo;
+import org.example.dsa_proj.Rep.StudentRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Export Service
+ *
+ * Writes students, rooms and allocation history as CSV or NDJSON straight
+ * from a forward-only database cursor to an output stream. Rows are scalar
+ * projections (no entities enter the persistence context) and each row is
+ * written and dropped before the next is read, so memory stays constant
+ * whatever the row count.
+ *
+ * The write methods open their own read-only transaction, which keeps the
+ * cursor open; call them from the thread that writes the response body.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+public class ExportService {
+
+    private static final String[] STUDENT_COLUMNS = {"studentId", "name", "gender", "branch", "year",
+            "preferenceType", "roomTypePreference", "status", "roomNumber", "hostelBlock"};
+    private static final String[] ROOM_COLUMNS = {"roomId", "roomNumber", "hostelBlock", "roomType",
+            "capacity", "occupancy", "status"};
+    private static final String[] HISTORY_COLUMNS = {"allocationId", "studentId", "studentName", "roomId",
+            "roomNumber", "allocationDate", "deallocationDate", "reason", "notes", "createdBy"};
+
+    @Autowired
+    private StudentRepo studentRepo;
+
+    @Autowired
+    private RoomRepo roomRepo;
+
+    @Autowired
+    private AllochistService historyService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Supported export formats
+     */
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long writeStudents(Format format, OutputStream out) throws IOException {
+        try (Stream<Object[]> rows = studentRepo.streamExportRows()) {
+            return write(format, STUDENT_COLUMNS, rows, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long writeRooms(Format format, OutputStream out) throws IOException {
+        try (Stream<Object[]> rows = roomRepo.streamExportRows()) {
+            return write(format, ROOM_COLUMNS, rows, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long writeAllocationHistory(Format format, OutputStream out) throws IOException {
+        try (Stream<Object[]> rows = historyService.streamAllocHistory()) {
+            return write(format, HISTORY_COLUMNS, rows, out);
+        }
+    }
+
+    /**
+     * @return number of rows written
+     */
+    private long write(Format format, String[] columns, Stream<Object[]> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long count = 0;
+        Iterator<Object[]> it = rows.iterator();
+        if (format == Format.CSV) {
+            writeCsvLine(writer, columns);
+            while (it.hasNext()) {
+                writeCsvLine(writer, it.next());
+                count++;
+            }
+            writer.flush();
+        } else {
+            // One JSON object per line; the generator must not close the response stream
+            JsonGenerator json = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(null);
+            while (it.hasNext()) {
+                Object[] row = it.next();
+                json.writeStartObject();
+                for (int i = 0; i < columns.length; i++) {
+                    json.writeFieldName(columns[i]);
+                    writeJsonValue(json, row[i]);
+                }
+                json.writeEndObject();
+                json.writeRaw('\n');
+                count++;
+            }
+            json.flush();
+        }
+        return count;
+    }
+
+    private static void writeJsonValue(JsonGenerator json, Object value) throws IOException {
+        if (value == null) {
+            json.writeNull();
+        } else if (value instanceof Number) {
+            json.writeNumber(value.toString());
+        } else if (value instanceof Boolean) {
+            json.writeBoolean((Boolean) value);
+        } else {
+            json.writeString(value.toString()); // LocalDate as ISO-8601
+        }
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(',');
+            if (values[i] != null) writer.write(csvField(values[i].toString()));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Quote a field per RFC 4180 when it holds a comma, quote or line break
+     */
+    static String csvField(String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
@@ -0,0 +1,206 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.Room;
+import org.example.dsa_proj.Models.RoomType;
+import org.example.dsa_proj.Models.WaitList;
+import org.example.dsa_proj.Rep.RoomateRepo;
+import org.example.dsa_proj.Rep.waitlist;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Global Allocator
+ *
+ * Allocates the whole waitlist across all room types in one min-cost max-flow
+ * pass ({@link MinCostFlowSolver}). A student may be placed in their
+ * preferred type or, at increasing cost, in one of its fallback types, so a
+ * student waiting for a Single can still get a free Double when no Single is
+ * left. The flow maximises the number of students housed; among those plans
+ * it prefers higher WaitList priority and fewer fallbacks.
+ *
+ * Cost of student i in type t = fallbackRank(i, t) * fallbackPenalty - priority(i)
+ *
+ * A room never mixes genders, so the flow nodes are (room type, gender) pairs
+ * and a student only has edges to nodes of their own gender. A partly occupied
+ * room feeds the node of its occupants' gender. Empty rooms are shared out
+ * before the solve, a whole room at a time, to the gender with the largest
+ * unmet demand for the type: first-choice demand first, then everyone who
+ * accepts the type as a fallback. Rooms already holding several genders, and
+ * students of unknown gender, are left out.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+public class GlobalAllocator {
+
+    /** Fallback types tried, in order, after the preferred type */
+    private static final Map<RoomType, List<RoomType>> DEFAULT_FALLBACKS = new EnumMap<>(RoomType.class);
+
+    static {
+        DEFAULT_FALLBACKS.put(RoomType.SINGLE, Arrays.asList(RoomType.DOUBLE, RoomType.TRIPLE));
+        DEFAULT_FALLBACKS.put(RoomType.DOUBLE, Arrays.asList(RoomType.TRIPLE, RoomType.SINGLE));
+        DEFAULT_FALLBACKS.put(RoomType.TRIPLE, Arrays.asList(RoomType.DOUBLE, RoomType.QUAD));
+        DEFAULT_FALLBACKS.put(RoomType.QUAD, Arrays.asList(RoomType.TRIPLE));
+    }
+
+    @Autowired
+    private waitlist waitRepo;
+
+    @Autowired
+    private RoomateRepo roomateRepo;
+
+    @Value("${allocation.global.time-budget-ms:10000}")
+    private long timeBudgetMillis;
+
+    @Value("${allocation.global.fallback-penalty:10.0}")
+    private double fallbackPenalty;
+
+    /**
+     * Build a campus-wide plan
+     * @param availableRooms All available rooms, in the order beds should be filled
+     * @return plan, not yet written
+     */
+    public AllocationPlan plan(List<Room> availableRooms) {
+        AllocationPlan plan = new AllocationPlan("Global Allocation");
+
+        // Rooms grouped by type, in fill order
+        Map<RoomType, Integer> typeIndex = new EnumMap<>(RoomType.class);
+        List<List<Room>> roomsByType = new ArrayList<>();
+        for (Room room : availableRooms) {
+            plan.trackRoom(room);
+            int t = typeIndex.computeIfAbsent(room.getRoomType(), k -> {
+                roomsByType.add(new ArrayList<>());
+                return roomsByType.size() - 1;
+            });
+            roomsByType.get(t).add(room);
+        }
+        int types = roomsByType.size();
+
+        // Waiting students: gender index and acceptable type indexes, best first
+        Map<Long, Integer> genderIndex = new LinkedHashMap<>();
+        List<Long> studentIds = new ArrayList<>();
+        List<Integer> studentGender = new ArrayList<>();
+        List<int[]> studentTypes = new ArrayList<>();
+        List<Double> studentPriority = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (Object[] row : waitRepo.findGlobalAllocationEntries()) {
+            long gender = CompatibilityProfile.genderKey((String) row[4]);
+            studentIds.add((Long) row[0]);
+            studentGender.add(gender == 0 ? -1 : genderIndex.computeIfAbsent(gender, g -> genderIndex.size()));
+            studentPriority.add(WaitList.priorityScore(((Number) row[2]).doubleValue(), today));
+            studentTypes.add(acceptableTypes((RoomType) row[1], (String) row[3]).stream()
+                    .map(type -> typeIndex.getOrDefault(type, -1)).mapToInt(Integer::intValue).toArray());
+        }
+        int genders = genderIndex.size();
+
+        // Occupied rooms keep their occupants' gender; empty rooms are shared out by demand
+        Map<Long, Long> roomGender = new HashMap<>();
+        for (RoomType type : typeIndex.keySet()) {
+            roomGender.putAll(OpenRooms.occupantGenders(roomateRepo.findOccupantProfilesByRoomType(type)));
+        }
+        int[][] firstChoice = new int[types][genders];
+        int[][] accepting = new int[types][genders];
+        for (int i = 0; i < studentIds.size(); i++) {
+            int g = studentGender.get(i);
+            if (g < 0) continue;
+            int[] acceptable = studentTypes.get(i);
+            if (acceptable.length > 0 && acceptable[0] >= 0) firstChoice[acceptable[0]][g]++;
+            Set<Integer> seen = new HashSet<>();
+            for (int t : acceptable) {
+                if (t >= 0 && seen.add(t)) accepting[t][g]++;
+            }
+        }
+        List<Long> genderKeys = new ArrayList<>(genderIndex.keySet());
+        int[] beds = new int[types * genders];
+        for (int t = 0; t < types; t++) {
+            Deque<Room> empty = new ArrayDeque<>();
+            for (Room room : roomsByType.get(t)) {
+                Integer g = genderIndex.get(roomGender.get(room.getRoomId()));
+                if (g != null) {
+                    beds[t * genders + g] += plan.getRemainingCapacity(room.getRoomId());
+                } else if (!roomGender.containsKey(room.getRoomId())) {
+                    empty.add(room);
+                }
+            }
+            for (int[][] demand : Arrays.asList(firstChoice, accepting)) {
+                while (!empty.isEmpty()) {
+                    int neediest = -1;
+                    int mostNeeded = 0;
+                    for (int g = 0; g < genders; g++) {
+                        int needed = demand[t][g] - beds[t * genders + g];
+                        if (needed > mostNeeded) {
+                            mostNeeded = needed;
+                            neediest = g;
+                        }
+                    }
+                    if (neediest < 0) break;
+                    Room room = empty.poll();
+                    roomGender.put(room.getRoomId(), genderKeys.get(neediest));
+                    beds[t * genders + neediest] += plan.getRemainingCapacity(room.getRoomId());
+                }
+            }
+        }
+
+        // (type, gender) pairs become flow nodes; beds per node feed the sink edges
+        MinCostFlowSolver solver = new MinCostFlowSolver(beds);
+        double[] costs = new double[beds.length];
+        for (int i = 0; i < studentIds.size(); i++) {
+            Arrays.fill(costs, Double.POSITIVE_INFINITY);
+            int g = studentGender.get(i);
+            int rank = 0;
+            for (int t : studentTypes.get(i)) {
+                if (g >= 0 && t >= 0 && costs[t * genders + g] == Double.POSITIVE_INFINITY) {
+                    costs[t * genders + g] = rank * fallbackPenalty - studentPriority.get(i);
+                }
+                rank++;
+            }
+            solver.addStudent(costs);
+        }
+
+        int[] assignedNode = solver.solve(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis));
+        plan.setNote(String.format("%d students placed by min-cost flow%s", solver.getAugmentations(),
+                solver.isTimedOut() ? ", stopped at " + timeBudgetMillis + " ms budget" : ""));
+
+        // Hand out beds within each node in room order; a node's beds are exactly its rooms' free beds
+        List<List<Room>> roomsByNode = new ArrayList<>();
+        for (int n = 0; n < beds.length; n++) roomsByNode.add(new ArrayList<>());
+        for (int t = 0; t < types; t++) {
+            for (Room room : roomsByType.get(t)) {
+                Integer g = genderIndex.get(roomGender.get(room.getRoomId()));
+                if (g != null) roomsByNode.get(t * genders + g).add(room);
+            }
+        }
+        int[] roomCursor = new int[beds.length];
+        for (int i = 0; i < assignedNode.length; i++) {
+            int n = assignedNode[i];
+            if (n < 0) continue;
+            List<Room> rooms = roomsByNode.get(n);
+            while (plan.getRemainingCapacity(rooms.get(roomCursor[n]).getRoomId()) == 0) roomCursor[n]++;
+            plan.assign(studentIds.get(i), rooms.get(roomCursor[n]).getRoomId());
+        }
+        return plan;
+    }
+
+    /**
+     * Preferred type first, then the student's own room type preference if it
+     * differs, then the default fallbacks for the preferred type
+     */
+    private List<RoomType> acceptableTypes(RoomType preferredRoomType, String studentPreference) {
+        List<RoomType> types = new ArrayList<>();
+        if (preferredRoomType != null) types.add(preferredRoomType);
+        for (RoomType type : RoomType.values()) {
+            if (type.getLabel().equalsIgnoreCase(studentPreference) && !types.contains(type)) types.add(type);
+        }
+        if (preferredRoomType == null) return types;
+        for (RoomType type : DEFAULT_FALLBACKS.get(preferredRoomType)) {
+            if (!types.contains(type)) types.add(type);
+        }
+        return types;
+    }
+}
@@ -0,0 +1,188 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.Room;
+import org.example.dsa_proj.Models.RoomType;
+import org.example.dsa_proj.Rep.RoomateRepo;
+import org.example.dsa_proj.Rep.waitlist;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group Allocator
+ *
+ * Places waiting students into empty Triple and Quad rooms as whole groups
+ * chosen by {@link GroupFormationOptimizer}. Only as many top-priority
+ * students as there are free beds take part; groups go into empty rooms of the
+ * common capacity and whoever is left fills the remaining beds in room order.
+ * A room never mixes genders: groups are formed within each gender, each
+ * gender gets its own share of the empty rooms, and leftovers only join a
+ * room that is empty or already holds their gender.
+ * The restarts run on a pool owned by this service so a large search never
+ * competes with the common pool used by request threads.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+public class GroupAllocator {
+
+    @Autowired
+    private waitlist waitRepo;
+
+    @Autowired
+    private RoomateRepo roomateRepo;
+
+    @Value("${allocation.groups.time-budget-ms:5000}")
+    private long timeBudgetMillis;
+
+    @Value("${allocation.groups.restarts:8}")
+    private int restarts;
+
+    private final ForkJoinPool pool;
+
+    public GroupAllocator(@Value("${allocation.groups.parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Build a group formation plan for one room type
+     * @param roomType Room type being allocated (Triple or Quad)
+     * @param availableRooms Available rooms of that type
+     * @param waitingStudentIds Waiting students in priority order
+     * @return plan, not yet written
+     */
+    public AllocationPlan plan(RoomType roomType, List<Room> availableRooms, List<Long> waitingStudentIds) {
+        AllocationPlan plan = new AllocationPlan("Group Formation");
+        availableRooms.forEach(plan::trackRoom);
+
+        // Groups are formed for empty rooms of the most common capacity
+        Map<Integer, List<Room>> emptyByCapacity = new HashMap<>();
+        for (Room room : availableRooms) {
+            if (room.getOccupancy() == 0 && room.getCapacity() > 1) {
+                emptyByCapacity.computeIfAbsent(room.getCapacity(), k -> new ArrayList<>()).add(room);
+            }
+        }
+        List<Room> groupRooms = emptyByCapacity.values().stream()
+                .max(Comparator.comparingInt(List::size)).orElse(Collections.emptyList());
+
+        Map<Long, CompatibilityProfile> byStudent = new HashMap<>();
+        for (Object[] row : waitRepo.findWaitingProfilesByRoomType(roomType)) {
+            byStudent.putIfAbsent((Long) row[0], CompatibilityProfile.fromRow(row, 1));
+        }
+        int groupSize = groupRooms.isEmpty() ? 0 : groupRooms.get(0).getCapacity();
+
+        // Students in priority order join their gender's groups while a room is left for every
+        // partly formed group; students of unknown gender are never grouped
+        Map<Long, List<Long>> studentsByGender = new LinkedHashMap<>();
+        List<Long> leftovers = new ArrayList<>();
+        int roomsNeeded = 0;
+        for (Long id : waitingStudentIds) {
+            CompatibilityProfile profile = byStudent.get(id);
+            if (profile == null || profile.genderKey() == 0) {
+                leftovers.add(id);
+                continue;
+            }
+            List<Long> members = studentsByGender.computeIfAbsent(profile.genderKey(), g -> new ArrayList<>());
+            boolean newRoom = groupSize == 0 || members.size() % groupSize == 0;
+            if (newRoom && roomsNeeded == groupRooms.size()) {
+                leftovers.add(id);
+                continue;
+            }
+            if (newRoom) roomsNeeded++;
+            members.add(id);
+        }
+        studentsByGender.values().removeIf(List::isEmpty);
+
+        Map<Long, Long> roomGender = OpenRooms.occupantGenders(roomateRepo.findOccupantProfilesByRoomType(roomType));
+        int nextRoom = 0;
+        long totalScore = 0;
+        long iterations = 0;
+        int runs = 0;
+        long elapsedMillis = 0;
+        for (Map.Entry<Long, List<Long>> partition : studentsByGender.entrySet()) {
+            List<Long> students = partition.getValue();
+            int groupCount = (students.size() + groupSize - 1) / groupSize;
+            List<Room> rooms = groupRooms.subList(nextRoom, nextRoom + groupCount);
+            nextRoom += groupCount;
+
+            CompatibilityProfile[] profiles = new CompatibilityProfile[students.size()];
+            for (int i = 0; i < profiles.length; i++) profiles[i] = byStudent.get(students.get(i));
+            // Genders share the time budget
+            GroupFormationOptimizer.Result result = optimize(
+                    new GroupFormationOptimizer(profiles, groupSize, groupCount), studentsByGender.size());
+            totalScore += result.getScore();
+            iterations += result.getIterations();
+            runs += result.getRestarts();
+            elapsedMillis += result.getElapsedMillis();
+
+            int[][] groups = result.getGroups();
+            for (int g = 0; g < groups.length; g++) {
+                int[] members = groups[g];
+                int score = averageScore(profiles, members);
+                Long roomId = rooms.get(g).getRoomId();
+                roomGender.put(roomId, partition.getKey());
+                for (int member : members) {
+                    plan.assign(students.get(member), roomId, score);
+                }
+            }
+        }
+        if (nextRoom > 0) {
+            plan.setNote(String.format("%d groups across %d genders, total compatibility %d, %d iterations across %d restarts (%.0f it/s)",
+                    nextRoom, studentsByGender.size(), totalScore, iterations, runs,
+                    elapsedMillis > 0 ? iterations * 1000.0 / elapsedMillis : 0));
+        }
+
+        // Remaining beds go to leftovers of the gender already in the room, or to an empty room
+        OpenRooms beds = new OpenRooms(plan, availableRooms, roomGender, 1);
+        for (Long id : leftovers) {
+            CompatibilityProfile profile = byStudent.get(id);
+            if (profile == null) continue;
+            Long roomId = beds.take(profile.genderKey());
+            if (roomId == null) continue;
+            plan.assign(id, roomId);
+            beds.release(roomId);
+        }
+        return plan;
+    }
+
+    /**
+     * @param shares Number of optimizer runs splitting the time budget
+     */
+    private GroupFormationOptimizer.Result optimize(GroupFormationOptimizer optimizer, int shares) {
+        try {
+            return optimizer.optimize(pool, Math.max(1, restarts),
+                    TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis) / Math.max(1, shares));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Group formation was interrupted", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Group formation failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Average pairwise preference compatibility of a group, scaled to 0-100
+     */
+    private int averageScore(CompatibilityProfile[] profiles, int[] members) {
+        int pairs = 0;
+        int total = 0;
+        for (int i = 0; i < members.length; i++) {
+            for (int j = i + 1; j < members.length; j++) {
+                total += profiles[members[i]].preferenceScore(profiles[members[j]]);
+                pairs++;
+            }
+        }
+        return pairs == 0 ? 0 : (int) Math.round(total * 100.0 / pairs / CompatibilityProfile.MAX_PREFERENCE_SCORE);
+    }
+}
@@ -0,0 +1,244 @@
+package org.example.dsa_proj.Service;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Group Formation Optimizer
+ *
+ * Splits students into groups of a fixed room size so that the summed pairwise
+ * preference compatibility inside the groups is as high as possible. Each
+ * restart is an independent simulated-annealing run from a random split, using
+ * swaps of two students between groups (an O(group size) delta). Restarts run
+ * in parallel on the supplied ForkJoinPool and share the wall-clock budget; the
+ * best split found by any of them wins.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public final class GroupFormationOptimizer {
+
+    /** Profiles interned below this count get a precomputed score matrix */
+    private static final int MATRIX_LIMIT = 2048;
+    private static final int CHECK_INTERVAL = 1024;
+
+    private final int studentCount;
+    private final CompatibilityVectors vectors;
+    private final int groupSize;
+    private final int groupCount;
+    private final int[] profileId;
+    private final byte[] matrix;
+    private final int distinct;
+
+    /**
+     * @param profiles Profile of every student; the array index is the student ordinal
+     * @param groupSize Students per group (room capacity)
+     * @param groupCount Number of groups; groupCount * groupSize must cover all students
+     */
+    public GroupFormationOptimizer(CompatibilityProfile[] profiles, int groupSize, int groupCount) {
+        if ((long) groupSize * groupCount < profiles.length) {
+            throw new IllegalArgumentException("Not enough group slots for " + profiles.length + " students");
+        }
+        this.studentCount = profiles.length;
+        this.vectors = CompatibilityVectors.of(profiles);
+        this.groupSize = groupSize;
+        this.groupCount = groupCount;
+
+        Map<CompatibilityProfile, Integer> ids = new HashMap<>();
+        List<CompatibilityProfile> unique = new ArrayList<>();
+        profileId = new int[profiles.length];
+        for (int i = 0; i < profiles.length; i++) {
+            profileId[i] = ids.computeIfAbsent(profiles[i], p -> {
+                unique.add(p);
+                return unique.size() - 1;
+            });
+        }
+        distinct = unique.size();
+        if (distinct <= MATRIX_LIMIT) {
+            matrix = new byte[distinct * distinct];
+            for (int a = 0; a < distinct; a++) {
+                for (int b = 0; b < distinct; b++) {
+                    matrix[a * distinct + b] = (byte) unique.get(a).preferenceScore(unique.get(b));
+                }
+            }
+        } else {
+            matrix = null;
+        }
+    }
+
+    /**
+     * Run the restarts in parallel and keep the best grouping
+     * @param pool Pool the restarts run on
+     * @param restarts Number of independent annealing runs
+     * @param budgetNanos Total wall-clock budget
+     * @return best grouping with throughput figures
+     */
+    public Result optimize(ForkJoinPool pool, int restarts, long budgetNanos) throws Exception {
+        int waves = (restarts + pool.getParallelism() - 1) / pool.getParallelism();
+        long perRestart = budgetNanos / Math.max(1, waves);
+        long start = System.nanoTime();
+
+        List<Future<Run>> futures = new ArrayList<>();
+        for (int r = 0; r < restarts; r++) {
+            futures.add(pool.submit(() -> anneal(perRestart)));
+        }
+        Run best = null;
+        long iterations = 0;
+        for (Future<Run> future : futures) {
+            Run run = future.get();
+            iterations += run.iterations;
+            if (best == null || run.score > best.score) best = run;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        int[][] groups = new int[groupCount][];
+        for (int g = 0; g < groupCount; g++) {
+            groups[g] = Arrays.stream(best.slots, g * groupSize, (g + 1) * groupSize)
+                    .filter(s -> s >= 0).toArray();
+        }
+        return new Result(groups, best.score, restarts, iterations, elapsed);
+    }
+
+    private Run anneal(long budgetNanos) {
+        Random random = ThreadLocalRandom.current();
+        int slotsTotal = groupCount * groupSize;
+        int[] slots = new int[slotsTotal];
+        for (int i = 0; i < slotsTotal; i++) slots[i] = i < studentCount ? i : -1;
+        for (int i = slotsTotal - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = slots[i];
+            slots[i] = slots[j];
+            slots[j] = t;
+        }
+
+        long current = 0;
+        for (int g = 0; g < groupCount; g++) current += groupScore(slots, g);
+        long bestScore = current;
+        int[] bestSlots = slots.clone();
+
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        double startTemperature = CompatibilityProfile.MAX_PREFERENCE_SCORE / 2.0;
+        double temperature = startTemperature;
+        long iterations = 0;
+
+        while (groupCount > 1) {
+            if (iterations % CHECK_INTERVAL == 0) {
+                long now = System.nanoTime();
+                if (now - deadline >= 0) break;
+                double progress = (double) (now - start) / budgetNanos;
+                temperature = startTemperature * (1 - progress) * (1 - progress) + 0.01;
+                if (current > bestScore) {
+                    bestScore = current;
+                    System.arraycopy(slots, 0, bestSlots, 0, slotsTotal);
+                }
+            }
+            iterations++;
+
+            int p = random.nextInt(slotsTotal);
+            int q = random.nextInt(slotsTotal);
+            int gp = p / groupSize;
+            int gq = q / groupSize;
+            int a = slots[p];
+            int b = slots[q];
+            if (gp == gq || (a < 0 && b < 0)) continue;
+
+            int delta = 0;
+            for (int k = gp * groupSize; k < (gp + 1) * groupSize; k++) {
+                if (k != p) delta += pair(b, slots[k]) - pair(a, slots[k]);
+            }
+            for (int k = gq * groupSize; k < (gq + 1) * groupSize; k++) {
+                if (k != q) delta += pair(a, slots[k]) - pair(b, slots[k]);
+            }
+            if (delta >= 0 || random.nextDouble() < Math.exp(delta / temperature)) {
+                slots[p] = b;
+                slots[q] = a;
+                current += delta;
+            }
+        }
+        if (current > bestScore) {
+            bestScore = current;
+            bestSlots = slots;
+        }
+        return new Run(bestSlots, bestScore, iterations);
+    }
+
+    private long groupScore(int[] slots, int group) {
+        long total = 0;
+        int from = group * groupSize;
+        int to = from + groupSize;
+        for (int i = from; i < to; i++) {
+            for (int j = i + 1; j < to; j++) total += pair(slots[i], slots[j]);
+        }
+        return total;
+    }
+
+    private int pair(int a, int b) {
+        if (a < 0 || b < 0) return 0;
+        if (matrix != null) return matrix[profileId[a] * distinct + profileId[b]];
+        return vectors.preferenceScore(a, b);
+    }
+
+    private static final class Run {
+        final int[] slots;
+        final long score;
+        final long iterations;
+
+        Run(int[] slots, long score, long iterations) {
+            this.slots = slots;
+            this.score = score;
+            this.iterations = iterations;
+        }
+    }
+
+    /**
+     * Best grouping found, with search throughput
+     */
+    public static final class Result {
+        private final int[][] groups;
+        private final long score;
+        private final int restarts;
+        private final long iterations;
+        private final long elapsedNanos;
+
+        Result(int[][] groups, long score, int restarts, long iterations, long elapsedNanos) {
+            this.groups = groups;
+            this.score = score;
+            this.restarts = restarts;
+            this.iterations = iterations;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Student ordinals per group; trailing groups may be short or empty
+         */
+        public int[][] getGroups() {
+            return groups;
+        }
+
+        public long getScore() {
+            return score;
+        }
+
+        public int getRestarts() {
+            return restarts;
+        }
+
+        public long getIterations() {
+            return iterations;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedNanos / 1_000_000;
+        }
+
+        /**
+         * Swap moves evaluated per second across all restarts
+         */
+        public double getIterationsPerSecond() {
+            return elapsedNanos > 0 ? iterations * 1e9 / elapsedNanos : 0;
+        }
+    }
+}
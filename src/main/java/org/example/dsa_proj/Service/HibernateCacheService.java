@@ -0,0 +1,75 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.CacheConfig;
+import org.example.dsa_proj.Models.Room;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate Cache Service
+ *
+ * Reports hit and miss counts for the second-level cache regions declared in
+ * {@link CacheConfig}, and evicts the room regions after writes that bypass
+ * Hibernate. Writes through RoomRepo (RoomService.updateOccupancy and the
+ * rest) need no help: Hibernate updates the cached room and marks the rooms
+ * table in the update timestamps region, which retires every cached room
+ * query. A JDBC batch does neither, so its writer calls
+ * {@link #evictRoomsAfterCommit()}.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+public class HibernateCacheService {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Drop cached rooms and room query results once the current transaction commits
+     */
+    public void evictRoomsAfterCommit() {
+        AfterCommit.run(this::evictRooms);
+    }
+
+    public void evictRooms() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictEntityData(Room.class);
+        sessionFactory.getCache().evictQueryRegion(CacheConfig.ROOM_QUERY_REGION);
+    }
+
+    /**
+     * Hit, miss and put counts per region, plus the query cache totals
+     * @return region name to counts; counts are zero when statistics are off
+     */
+    public Map<String, Map<String, Long>> getStatistics() {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+        result.put(CacheConfig.ROOM_REGION, counts(stats.getDomainDataRegionStatistics(CacheConfig.ROOM_REGION)));
+        result.put(CacheConfig.ADMIN_REGION, counts(stats.getDomainDataRegionStatistics(CacheConfig.ADMIN_REGION)));
+        result.put(CacheConfig.ROOM_QUERY_REGION, counts(stats.getQueryRegionStatistics(CacheConfig.ROOM_QUERY_REGION)));
+
+        Map<String, Long> queries = new LinkedHashMap<>();
+        queries.put("hits", stats.getQueryCacheHitCount());
+        queries.put("misses", stats.getQueryCacheMissCount());
+        queries.put("puts", stats.getQueryCachePutCount());
+        queries.put("timestampChecks", stats.getUpdateTimestampsCacheHitCount());
+        result.put("queryCache", queries);
+        return result;
+    }
+
+    private static Map<String, Long> counts(CacheRegionStatistics region) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("hits", region == null ? 0 : region.getHitCount());
+        counts.put("misses", region == null ? 0 : region.getMissCount());
+        counts.put("puts", region == null ? 0 : region.getPutCount());
+        return counts;
+    }
+}
@@ -0,0 +1,378 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.CodedEnum;
+import org.example.dsa_proj.Models.RoomStatus;
+import org.example.dsa_proj.Models.RoomType;
+import org.example.dsa_proj.Models.StudentStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Hostel Counters
+ *
+ * In-process LongAdder counters for rooms per hostel block, room type and
+ * status, beds per block and room type, students per status and waitlist
+ * entries per room type, plus the dashboard totals. Reads are O(1). Keys
+ * use the status and type labels, so the snapshot reads "A|Double|Full".
+ *
+ * The counters are seeded from one UNION ALL aggregate query when the
+ * application is ready, then moved by the events that RoomService,
+ * RoomateService, AllocationService, StudentService and waitlistservice
+ * publish (applied after commit). Bulk writes that bypass those services call
+ * {@link #reconcileAfterCommit()}, and a scheduled reconcile re-runs the
+ * aggregate query to correct any drift.
+ *
+ * Reconcile holds the write lock while it queries and swaps in the new
+ * counters. A transaction that published events takes the read lock just
+ * before it commits and releases it once its events are applied, so a seed
+ * sees either none of its rows and the new counters get its events, or all of
+ * its rows and the old counters got them; a change is never counted twice.
+ * Events published outside a transaction are applied at once; their write has
+ * already committed, so a reconcile racing one can still count it twice until
+ * the next reconcile.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+public class HostelCounters {
+
+    private static final String SEED_QUERY =
+            "SELECT 'room' AS kind, hostel_block, room_type, status, COUNT(*) AS total, " +
+            "SUM(occupancy) AS used, SUM(capacity) AS beds, " +
+            "SUM(CASE WHEN occupancy < capacity AND status = " + RoomStatus.AVAILABLE.getCode() + " " +
+            "THEN 1 ELSE 0 END) AS available, " +
+            "SUM(CASE WHEN occupancy >= capacity THEN 1 ELSE 0 END) AS full_rooms " +
+            "FROM rooms GROUP BY hostel_block, room_type, status " +
+            "UNION ALL " +
+            "SELECT 'student', NULL, NULL, status, COUNT(*), " +
+            "SUM(CASE WHEN room_id IS NOT NULL THEN 1 ELSE 0 END), 0, 0, 0 " +
+            "FROM students GROUP BY status " +
+            "UNION ALL " +
+            "SELECT 'waitlist', NULL, preferred_room_type, NULL, COUNT(*), 0, 0, 0, 0 " +
+            "FROM wait_list GROUP BY preferred_room_type";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private volatile Counters counters = new Counters();
+    private final ReentrantReadWriteLock generationLock = new ReentrantReadWriteLock();
+    // A reconcile requested while this thread still held the read lock for an enclosing commit
+    private volatile boolean reconcileDeferred;
+
+    /**
+     * Seed or re-seed every counter from the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${counters.reconcile-interval-ms:300000}",
+               initialDelayString = "${counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        if (generationLock.getReadHoldCount() > 0) {
+            // Upgrading would deadlock; the enclosing commit re-seeds once it lets go
+            reconcileDeferred = true;
+            return;
+        }
+        reconcileDeferred = false;
+        generationLock.writeLock().lock();
+        try {
+            counters = seed();
+        } finally {
+            generationLock.writeLock().unlock();
+        }
+    }
+
+    private Counters seed() {
+        Counters fresh = new Counters();
+        jdbcTemplate.query(SEED_QUERY, rs -> {
+            String kind = rs.getString(1);
+            long total = rs.getLong(5);
+            if ("room".equals(kind)) {
+                String block = rs.getString(2);
+                RoomType type = code(rs, 3, RoomType.class);
+                RoomStatus status = code(rs, 4, RoomStatus.class);
+                fresh.rooms.add(roomKey(block, type, status), total);
+                fresh.usedBeds.add(bedKey(block, type), rs.getLong(6));
+                fresh.beds.add(bedKey(block, type), rs.getLong(7));
+                fresh.totalRooms.add(total);
+                fresh.availableRooms.add(rs.getLong(8));
+                fresh.fullRooms.add(rs.getLong(9));
+            } else if ("student".equals(kind)) {
+                StudentStatus status = code(rs, 4, StudentStatus.class);
+                fresh.students.add(label(status), total);
+                fresh.totalStudents.add(total);
+                if (status == StudentStatus.ALLOCATED) fresh.allocatedStudents.add(rs.getLong(6));
+                if (isWaiting(status)) fresh.waitingStudents.add(total);
+            } else {
+                fresh.waitlist.add(label(code(rs, 3, RoomType.class)), total);
+                fresh.waitlistSize.add(total);
+            }
+        });
+        return fresh;
+    }
+
+    /**
+     * Re-seed once the current transaction commits, after a bulk write
+     */
+    public void reconcileAfterCommit() {
+        PendingChanges pending = pendingChanges();
+        if (pending == null) reconcile();
+        else pending.reconcile = true;
+    }
+
+    @EventListener
+    public void onOccupancyChanged(RoomOccupancyChangedEvent event) {
+        apply(c -> {
+            String block = event.getHostelBlock();
+            RoomType type = event.getRoomType();
+            if (!Objects.equals(event.getPreviousStatus(), event.getStatus())) {
+                c.rooms.add(roomKey(block, type, event.getPreviousStatus()), -1);
+                c.rooms.add(roomKey(block, type, event.getStatus()), 1);
+            }
+            c.usedBeds.add(bedKey(block, type), event.getOccupancyChange());
+            c.availableRooms.add(flip(event.isPreviouslyAvailable(), event.isAvailable()));
+            c.fullRooms.add(flip(event.isPreviouslyFull(), event.isFull()));
+        });
+    }
+
+    @EventListener
+    public void onStudentStatusChanged(StudentStatusChangedEvent event) {
+        apply(c -> {
+            StudentStatus previous = event.getPreviousStatus();
+            StudentStatus status = event.getStatus();
+            if (previous != null) c.students.add(label(previous), -1);
+            if (status != null) c.students.add(label(status), 1);
+            c.totalStudents.add((status != null ? 1 : 0) - (previous != null ? 1 : 0));
+            c.allocatedStudents.add(flip(event.isPreviouslyAllocated(), event.isAllocated()));
+            c.waitingStudents.add(flip(isWaiting(previous), isWaiting(status)));
+        });
+    }
+
+    @EventListener
+    public void onWaitlistChanged(WaitlistChangedEvent event) {
+        apply(c -> {
+            c.waitlist.add(label(event.getRoomType()), event.getChange());
+            c.waitlistSize.add(event.getChange());
+        });
+    }
+
+    /**
+     * Apply a change once the current transaction commits, or immediately
+     * when no transaction is active
+     */
+    private void apply(Consumer<Counters> change) {
+        PendingChanges pending = pendingChanges();
+        if (pending != null) {
+            pending.changes.add(change);
+            return;
+        }
+        generationLock.readLock().lock();
+        try {
+            change.accept(counters);
+        } finally {
+            generationLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the current transaction's pending changes, registered on first use, or null outside a transaction
+     */
+    private PendingChanges pendingChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    public long getTotalRooms() {
+        return counters.totalRooms.sum();
+    }
+
+    /**
+     * Rooms with free space and status Available (Room.hasAvailableSpace)
+     */
+    public long getAvailableRooms() {
+        return counters.availableRooms.sum();
+    }
+
+    /**
+     * Rooms at or over capacity (Room.isFull)
+     */
+    public long getFullRooms() {
+        return counters.fullRooms.sum();
+    }
+
+    public long getTotalStudents() {
+        return counters.totalStudents.sum();
+    }
+
+    public long getAllocatedStudents() {
+        return counters.allocatedStudents.sum();
+    }
+
+    public long getWaitingStudents() {
+        return counters.waitingStudents.sum();
+    }
+
+    public long getWaitlistSize() {
+        return counters.waitlistSize.sum();
+    }
+
+    public long getWaitlistSize(RoomType roomType) {
+        return counters.waitlist.get(label(roomType));
+    }
+
+    public long getStudentCount(StudentStatus status) {
+        return counters.students.get(label(status));
+    }
+
+    public long getRoomCount(String hostelBlock, RoomType roomType, RoomStatus status) {
+        return counters.rooms.get(roomKey(hostelBlock, roomType, status));
+    }
+
+    public long getOccupiedBeds(String hostelBlock, RoomType roomType) {
+        return counters.usedBeds.get(bedKey(hostelBlock, roomType));
+    }
+
+    public long getTotalBeds(String hostelBlock, RoomType roomType) {
+        return counters.beds.get(bedKey(hostelBlock, roomType));
+    }
+
+    /**
+     * Copy of the per-key counters, for reporting
+     * @return counter group name to key to value
+     */
+    public Map<String, Map<String, Long>> snapshot() {
+        Counters c = counters;
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+        result.put("rooms", c.rooms.toMap());
+        result.put("occupiedBeds", c.usedBeds.toMap());
+        result.put("beds", c.beds.toMap());
+        result.put("students", c.students.toMap());
+        result.put("waitlist", c.waitlist.toMap());
+        return result;
+    }
+
+    private static int flip(boolean before, boolean after) {
+        return (after ? 1 : 0) - (before ? 1 : 0);
+    }
+
+    private static boolean isWaiting(StudentStatus status) {
+        return status != null && status.isWaiting();
+    }
+
+    private static String roomKey(String block, RoomType type, RoomStatus status) {
+        return block + "|" + type + "|" + status;
+    }
+
+    private static String bedKey(String block, RoomType type) {
+        return block + "|" + type;
+    }
+
+    private static String label(CodedEnum value) {
+        return value == null ? null : value.getLabel();
+    }
+
+    /**
+     * @return constant for the SMALLINT code in a result column, or null
+     */
+    private static <E extends Enum<E> & CodedEnum> E code(ResultSet rs, int column, Class<E> type)
+            throws SQLException {
+        short code = rs.getShort(column);
+        return rs.wasNull() ? null : CodedEnum.fromCode(type, code);
+    }
+
+    /**
+     * Changes published by one transaction. Holds the read lock from just
+     * before commit until they are applied, so no reconcile can seed in between.
+     */
+    private final class PendingChanges implements TransactionSynchronization {
+        final List<Consumer<Counters>> changes = new ArrayList<>();
+        boolean reconcile;
+        boolean locked;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            lock();
+        }
+
+        @Override
+        public void afterCommit() {
+            // Registered too late for beforeCommit: apply under the lock all the same
+            lock();
+            Counters c = counters;
+            changes.forEach(change -> change.accept(c));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(HostelCounters.this);
+            if (locked) generationLock.readLock().unlock();
+            if ((status == STATUS_COMMITTED && reconcile) || reconcileDeferred) reconcile();
+        }
+
+        private void lock() {
+            if (locked) return;
+            generationLock.readLock().lock();
+            locked = true;
+        }
+    }
+
+    /**
+     * One generation of counters; reconcile swaps in a new one
+     */
+    private static final class Counters {
+        final KeyedCounter rooms = new KeyedCounter();
+        final KeyedCounter usedBeds = new KeyedCounter();
+        final KeyedCounter beds = new KeyedCounter();
+        final KeyedCounter students = new KeyedCounter();
+        final KeyedCounter waitlist = new KeyedCounter();
+        final LongAdder totalRooms = new LongAdder();
+        final LongAdder availableRooms = new LongAdder();
+        final LongAdder fullRooms = new LongAdder();
+        final LongAdder totalStudents = new LongAdder();
+        final LongAdder allocatedStudents = new LongAdder();
+        final LongAdder waitingStudents = new LongAdder();
+        final LongAdder waitlistSize = new LongAdder();
+    }
+
+    private static final class KeyedCounter {
+        private final Map<String, LongAdder> adders = new ConcurrentHashMap<>();
+
+        void add(String key, long delta) {
+            if (key == null || delta == 0) return;
+            adders.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        }
+
+        long get(String key) {
+            LongAdder adder = key == null ? null : adders.get(key);
+            return adder == null ? 0 : adder.sum();
+        }
+
+        Map<String, Long> toMap() {
+            Map<String, Long> result = new TreeMap<>();
+            adders.forEach((key, adder) -> result.put(key, adder.sum()));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.dsa_proj.Service;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Locale;
+
+/**
+ * ID Sequence Migration
+ *
+ * Moves the primary keys from IDENTITY columns to the per-table sequences
+ * that the entities now declare (pooled-lo, blocks of 50, so Hibernate can
+ * batch inserts). Runs at startup after data.sql, on H2 and PostgreSQL, and
+ * is safe to repeat. For every sequence-keyed entity it:
+ *
+ * - drops the IDENTITY property left by the old mapping
+ * - makes the next sequence value the column default, so rows inserted
+ *   outside Hibernate (data.sql, JDBC batch writers) still get a key; each
+ *   such row takes a whole block, leaving a gap but never a clash
+ * - restarts the sequence past the largest existing key
+ *
+ * The sequences themselves are created by the Hibernate schema update.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+@DependsOnDatabaseInitialization
+public class IdSequenceMigration {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void migrate() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        for (EntityPersister persister : sessionFactory.getMetamodel().entityPersisters().values()) {
+            if (persister instanceof AbstractEntityPersister
+                    && persister.getIdentifierGenerator() instanceof SequenceStyleGenerator) {
+                AbstractEntityPersister entity = (AbstractEntityPersister) persister;
+                SequenceStyleGenerator generator = (SequenceStyleGenerator) persister.getIdentifierGenerator();
+                migrate(dialect, entity.getTableName(), entity.getIdentifierColumnNames()[0],
+                        generator.getDatabaseStructure().getPhysicalName().render());
+            }
+        }
+    }
+
+    private void migrate(Dialect dialect, String table, String column, String sequence) {
+        String[] current = columnDefinition(table, column);
+        boolean identity = "YES".equals(current[0]);
+        String defaultValue = current[1];
+
+        if (identity && defaultValue == null) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " DROP IDENTITY");
+        }
+        if (defaultValue == null || !defaultValue.toLowerCase(Locale.ROOT).contains(sequence.toLowerCase(Locale.ROOT))) {
+            // PostgreSQL serial columns keep their own sequence until the default is replaced
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + column
+                    + " SET DEFAULT " + dialect.getSelectSequenceNextValString(sequence));
+        }
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + column + ") FROM " + table, Long.class);
+        if (maxId != null) {
+            Long next = jdbcTemplate.queryForObject(dialect.getSequenceNextValString(sequence), Long.class);
+            if (next != null && next <= maxId) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (maxId + 1));
+            }
+        }
+    }
+
+    /**
+     * @return IS_AUTOINCREMENT ("YES"/"NO") and COLUMN_DEF of the key column
+     */
+    private String[] columnDefinition(String table, String column) {
+        return jdbcTemplate.execute((ConnectionCallback<String[]>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean upper = metaData.storesUpperCaseIdentifiers();
+            String t = upper ? table.toUpperCase(Locale.ROOT) : table.toLowerCase(Locale.ROOT);
+            String c = upper ? column.toUpperCase(Locale.ROOT) : column.toLowerCase(Locale.ROOT);
+            try (ResultSet rs = metaData.getColumns(connection.getCatalog(), null, t, c)) {
+                if (!rs.next()) {
+                    return new String[]{"NO", null};
+                }
+                return new String[]{rs.getString("IS_AUTOINCREMENT"), rs.getString("COLUMN_DEF")};
+            }
+        });
+    }
+}
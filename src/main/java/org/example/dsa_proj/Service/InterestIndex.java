@@ -0,0 +1,312 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Rep.PrefRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Interest Index
+ *
+ * Inverted index from interest token ({@link InterestTokenizer}) to the sorted
+ * list of students who gave it, plus each student's sorted term IDs. Queries
+ * never scan preference rows:
+ *
+ * - "who likes X" intersects the posting lists of the query tokens
+ * - the IDF-weighted overlap of two students merges their term lists; the
+ *   overlap of one student with everyone sharing an interest walks that
+ *   student's posting lists once. RoommateCandidateIndex breaks score ties
+ *   with it.
+ * - students with the most similar interests (by Jaccard) come from a k-way
+ *   merge of the posting lists of one student's terms, counting shared terms
+ *   per student
+ *
+ * Loaded when the application is ready and kept in sync after commit by
+ * StudentImportService, PreferenceService and StudentService.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+public class InterestIndex {
+
+    private static final int[] NO_TERMS = new int[0];
+
+    @Autowired
+    private PrefRepo prefRepo;
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<String> terms = new ArrayList<>();
+    private final List<Posting> postings = new ArrayList<>();
+    private final Map<Long, int[]> termsByStudent = new HashMap<>();
+
+    /**
+     * Load the interests of every preference row (runs after data.sql)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        Map<Long, Set<String>> tokens = new HashMap<>();
+        for (Object[] row : prefRepo.findAllInterests()) {
+            tokens.computeIfAbsent((Long) row[0], id -> new LinkedHashSet<>())
+                    .addAll(InterestTokenizer.tokenize((String) row[1]));
+        }
+        synchronized (this) {
+            termIds.clear();
+            terms.clear();
+            postings.clear();
+            termsByStudent.clear();
+            tokens.forEach(this::set);
+        }
+    }
+
+    /**
+     * Re-read a student's interests once the current transaction commits
+     * @param studentId Student whose preferences changed
+     */
+    public void refreshAfterCommit(Long studentId) {
+        AfterCommit.run(() -> refresh(studentId));
+    }
+
+    public void refresh(Long studentId) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String interests : prefRepo.findInterestsByStudentId(studentId)) {
+            tokens.addAll(InterestTokenizer.tokenize(interests));
+        }
+        set(studentId, tokens);
+    }
+
+    /**
+     * Drop students once the current transaction commits
+     * @param studentIds Deleted students
+     */
+    public void removeAfterCommit(Collection<Long> studentIds) {
+        List<Long> ids = new ArrayList<>(studentIds);
+        AfterCommit.run(() -> ids.forEach(id -> set(id, Collections.emptySet())));
+    }
+
+    /**
+     * Replace a student's interest tokens
+     * @param studentId Student ID
+     * @param tokens Normalised tokens
+     */
+    public synchronized void set(Long studentId, Collection<String> tokens) {
+        for (int term : termsByStudent.getOrDefault(studentId, NO_TERMS)) {
+            postings.get(term).remove(studentId);
+        }
+        if (tokens.isEmpty()) {
+            termsByStudent.remove(studentId);
+            return;
+        }
+        int[] ids = tokens.stream().mapToInt(this::termId).distinct().sorted().toArray();
+        for (int term : ids) postings.get(term).add(studentId);
+        termsByStudent.put(studentId, ids);
+    }
+
+    /**
+     * Students who listed every interest in the query
+     * @param interests One or more interests, e.g. "reading" or "Reading, Coding"
+     * @return student IDs in ascending order
+     */
+    public synchronized List<Long> findStudentsWhoLike(String interests) {
+        List<Posting> lists = new ArrayList<>();
+        for (String token : InterestTokenizer.tokenize(interests)) {
+            Integer term = termIds.get(token);
+            if (term == null) return new ArrayList<>();
+            lists.add(postings.get(term));
+        }
+        if (lists.isEmpty()) return new ArrayList<>();
+        lists.sort(Comparator.comparingInt(p -> p.size));
+
+        // Intersect starting from the shortest list; each step is a linear merge
+        long[] result = Arrays.copyOf(lists.get(0).ids, lists.get(0).size);
+        int size = result.length;
+        for (int l = 1; l < lists.size() && size > 0; l++) {
+            Posting other = lists.get(l);
+            int kept = 0;
+            for (int i = 0, j = 0; i < size && j < other.size; ) {
+                if (result[i] < other.ids[j]) i++;
+                else if (result[i] > other.ids[j]) j++;
+                else {
+                    result[kept++] = result[i];
+                    i++;
+                    j++;
+                }
+            }
+            size = kept;
+        }
+        List<Long> ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) ids.add(result[i]);
+        return ids;
+    }
+
+    /**
+     * Overlap weighted by inverse document frequency, so a shared rare
+     * interest counts more than a shared common one
+     * @return weight of shared interests / weight of combined interests (0-1)
+     */
+    public synchronized double weightedOverlap(Long a, Long b) {
+        int[] ta = termsByStudent.getOrDefault(a, NO_TERMS);
+        int[] tb = termsByStudent.getOrDefault(b, NO_TERMS);
+        double shared = 0;
+        double union = 0;
+        int i = 0;
+        int j = 0;
+        while (i < ta.length || j < tb.length) {
+            if (j == tb.length || (i < ta.length && ta[i] < tb[j])) {
+                union += idf(ta[i++]);
+            } else if (i == ta.length || tb[j] < ta[i]) {
+                union += idf(tb[j++]);
+            } else {
+                double w = idf(ta[i]);
+                shared += w;
+                union += w;
+                i++;
+                j++;
+            }
+        }
+        return union == 0 ? 0 : shared / union;
+    }
+
+    /**
+     * {@link #weightedOverlap} of one student with every student sharing at
+     * least one interest, from a single pass over the student's posting lists
+     * @param studentId Student ID
+     * @return overlap (above 0) per other student; students sharing nothing are absent
+     */
+    public synchronized Map<Long, Double> weightedOverlaps(Long studentId) {
+        int[] own = termsByStudent.getOrDefault(studentId, NO_TERMS);
+        Map<Long, Double> shared = new HashMap<>();
+        double ownWeight = 0;
+        for (int term : own) {
+            double w = idf(term);
+            ownWeight += w;
+            Posting posting = postings.get(term);
+            for (int p = 0; p < posting.size; p++) {
+                if (posting.ids[p] != studentId) shared.merge(posting.ids[p], w, Double::sum);
+            }
+        }
+        Map<Long, Double> overlaps = new HashMap<>();
+        for (Map.Entry<Long, Double> e : shared.entrySet()) {
+            double otherWeight = 0;
+            for (int term : termsByStudent.get(e.getKey())) otherWeight += idf(term);
+            overlaps.put(e.getKey(), e.getValue() / (ownWeight + otherWeight - e.getValue()));
+        }
+        return overlaps;
+    }
+
+    /**
+     * Students whose interests are most similar to a student's, by Jaccard
+     * @param studentId Student ID
+     * @param limit Maximum number of matches
+     * @return matches with at least one shared interest, most similar first
+     */
+    public synchronized List<Match> findSimilar(Long studentId, int limit) {
+        int[] own = termsByStudent.getOrDefault(studentId, NO_TERMS);
+        if (own.length == 0 || limit <= 0) return new ArrayList<>();
+
+        // k-way merge of the posting lists: a run of equal IDs is one student,
+        // and its length is the number of shared terms
+        int[] cursor = new int[own.length];
+        PriorityQueue<Integer> heads = new PriorityQueue<>(
+                Comparator.comparingLong((Integer l) -> postings.get(own[l]).ids[cursor[l]]));
+        for (int l = 0; l < own.length; l++) {
+            if (postings.get(own[l]).size > 0) heads.add(l);
+        }
+        // Worst kept match at the head: lowest Jaccard, then highest student ID
+        Comparator<Match> worstFirst = Comparator.comparingDouble(Match::getJaccard)
+                .thenComparing(Comparator.comparingLong(Match::getStudentId).reversed());
+        PriorityQueue<Match> best = new PriorityQueue<>(worstFirst);
+        while (!heads.isEmpty()) {
+            long id = postings.get(own[heads.peek()]).ids[cursor[heads.peek()]];
+            int shared = 0;
+            while (!heads.isEmpty() && postings.get(own[heads.peek()]).ids[cursor[heads.peek()]] == id) {
+                int l = heads.poll();
+                shared++;
+                if (++cursor[l] < postings.get(own[l]).size) heads.add(l);
+            }
+            if (id == studentId) continue;
+            int other = termsByStudent.get(id).length;
+            best.add(new Match(id, shared, (double) shared / (own.length + other - shared)));
+            if (best.size() > limit) best.poll();
+        }
+        List<Match> result = new ArrayList<>(best);
+        result.sort(worstFirst.reversed());
+        return result;
+    }
+
+    /**
+     * Interests of a student as indexed
+     */
+    public synchronized List<String> getInterests(Long studentId) {
+        List<String> result = new ArrayList<>();
+        for (int term : termsByStudent.getOrDefault(studentId, NO_TERMS)) result.add(terms.get(term));
+        return result;
+    }
+
+    private double idf(int term) {
+        return Math.log(1.0 + (double) termsByStudent.size() / Math.max(1, postings.get(term).size));
+    }
+
+    private int termId(String token) {
+        return termIds.computeIfAbsent(token, t -> {
+            terms.add(t);
+            postings.add(new Posting());
+            return terms.size() - 1;
+        });
+    }
+
+    /**
+     * Sorted, growable list of student IDs for one term
+     */
+    private static final class Posting {
+        long[] ids = new long[4];
+        int size;
+
+        void add(long id) {
+            int at = Arrays.binarySearch(ids, 0, size, id);
+            if (at >= 0) return;
+            at = -at - 1;
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            ids[at] = id;
+            size++;
+        }
+
+        void remove(long id) {
+            int at = Arrays.binarySearch(ids, 0, size, id);
+            if (at < 0) return;
+            System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+            size--;
+        }
+    }
+
+    /**
+     * A student sharing interests with the queried student
+     */
+    public static final class Match {
+        private final long studentId;
+        private final int sharedInterests;
+        private final double jaccard;
+
+        Match(long studentId, int sharedInterests, double jaccard) {
+            this.studentId = studentId;
+            this.sharedInterests = sharedInterests;
+            this.jaccard = jaccard;
+        }
+
+        public long getStudentId() {
+            return studentId;
+        }
+
+        public int getSharedInterests() {
+            return sharedInterests;
+        }
+
+        public double getJaccard() {
+            return jaccard;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.dsa_proj.Service;
+
+import java.util.*;
+
+/**
+ * Interest Tokenizer
+ *
+ * Turns the free-text Preference.interests field ("Reading, Coding") into
+ * normalised tokens: split on commas, semicolons, slashes and "&", lowercased,
+ * punctuation dropped and inner whitespace collapsed, so "  Board-games " and
+ * "board games" give the same token. Duplicates are removed.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public final class InterestTokenizer {
+
+    private InterestTokenizer() {
+    }
+
+    /**
+     * Tokenize an interests string
+     * @param interests Raw text, may be null
+     * @return distinct tokens in order of first appearance
+     */
+    public static List<String> tokenize(String interests) {
+        if (interests == null || interests.isEmpty()) return Collections.emptyList();
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String part : interests.split("[,;/&]")) {
+            String token = normalize(part);
+            if (!token.isEmpty()) tokens.add(token);
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    /**
+     * Normalise a single interest as typed in a search box
+     * @param interest Raw interest
+     * @return token, empty when nothing is left
+     */
+    public static String normalize(String interest) {
+        if (interest == null) return "";
+        StringBuilder token = new StringBuilder(interest.length());
+        boolean space = false;
+        for (int i = 0; i < interest.length(); i++) {
+            char c = interest.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (space && token.length() > 0) token.append(' ');
+                token.append(Character.toLowerCase(c));
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        return token.toString();
+    }
+}
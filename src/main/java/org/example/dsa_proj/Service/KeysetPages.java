@@ -0,0 +1,38 @@
+package org.example.dsa_proj.Service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Keyset Pages
+ *
+ * Shared limits for the keyset-paginated listings. A listing query always
+ * asks for page 0 of a given size and carries the last key of the previous
+ * page in its WHERE clause, so the database seeks straight to the next rows
+ * instead of counting past an OFFSET, and no total count query is run.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+final class KeysetPages {
+
+    static final int DEFAULT_SIZE = 50;
+    static final int MAX_SIZE = 200;
+
+    private KeysetPages() {
+    }
+
+    /**
+     * First page of the requested size, clamped to 1..MAX_SIZE
+     */
+    static Pageable limit(int size) {
+        return PageRequest.of(0, Math.max(1, Math.min(size, MAX_SIZE)));
+    }
+
+    /**
+     * Filter value from a request parameter; blank means "no filter"
+     */
+    static String filter(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+}
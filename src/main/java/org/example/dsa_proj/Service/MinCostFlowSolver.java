@@ -0,0 +1,223 @@
+package org.example.dsa_proj.Service;
+
+import java.util.Arrays;
+
+/**
+ * Min-Cost Flow Solver
+ *
+ * Min-cost max-flow over the network source -> student -> room type -> sink,
+ * where each student edge has capacity 1 and each room type drains to the sink
+ * with capacity equal to its free beds. Individual rooms are not modelled as
+ * nodes: within a type every bed costs the same, so beds are handed out to
+ * concrete rooms afterwards.
+ *
+ * Successive shortest paths are run on the residual graph condensed onto the
+ * room-type nodes. A residual path either takes an unassigned student straight
+ * into a type, or also shifts already-assigned students between types to free
+ * a bed. The cheapest candidate for every such step is kept in a lazy min-heap
+ * (one per type for unassigned students, one per type pair for moves), so each
+ * augmentation costs O(k^3 + k log n) for k room types instead of a full
+ * shortest-path search over all students.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public class MinCostFlowSolver {
+
+    private final int types;
+    private final int[] capacity;
+    private double[] costs = new double[0];
+    private int[] assigned = new int[0];
+    private int students;
+
+    private int augmentations;
+    private boolean timedOut;
+
+    /**
+     * @param capacity Free beds per room type index
+     */
+    public MinCostFlowSolver(int[] capacity) {
+        this.types = capacity.length;
+        this.capacity = capacity.clone();
+    }
+
+    /**
+     * Add a student to the network
+     * @param typeCosts Cost of placing the student in each room type,
+     *                  Double.POSITIVE_INFINITY where the type is not acceptable
+     * @return student index
+     */
+    public int addStudent(double[] typeCosts) {
+        if (students == assigned.length) {
+            int grown = Math.max(16, students * 2);
+            assigned = Arrays.copyOf(assigned, grown);
+            costs = Arrays.copyOf(costs, grown * types);
+        }
+        System.arraycopy(typeCosts, 0, costs, students * types, types);
+        assigned[students] = -1;
+        return students++;
+    }
+
+    /**
+     * Run successive shortest paths until no augmenting path remains or the
+     * deadline passes. Every intermediate state is a feasible min-cost flow for
+     * its flow value, so a timed-out run still returns a valid assignment.
+     * @param deadlineNanos System.nanoTime() value after which to stop
+     * @return room type index per student, or -1 if unassigned
+     */
+    public int[] solve(long deadlineNanos) {
+        Heap[] entry = new Heap[types];
+        Heap[][] move = new Heap[types][types];
+        for (int t = 0; t < types; t++) {
+            entry[t] = new Heap();
+            for (int u = 0; u < types; u++) move[t][u] = new Heap();
+        }
+        for (int i = 0; i < students; i++) {
+            for (int t = 0; t < types; t++) {
+                double c = costs[i * types + t];
+                if (c != Double.POSITIVE_INFINITY) entry[t].push(c, i);
+            }
+        }
+
+        double[] dist = new double[types];
+        int[] predType = new int[types];
+        int[] predStudent = new int[types];
+
+        while (true) {
+            if (System.nanoTime() - deadlineNanos > 0) {
+                timedOut = true;
+                break;
+            }
+
+            // Cheapest way to bring one more unassigned student into each type
+            for (int t = 0; t < types; t++) {
+                int i = topUnassigned(entry[t]);
+                dist[t] = i < 0 ? Double.POSITIVE_INFINITY : entry[t].topKey();
+                predType[t] = -1;
+                predStudent[t] = i;
+            }
+
+            // Bellman-Ford over type nodes: a -> b moves a student from a to b
+            for (int round = 1; round < types; round++) {
+                boolean changed = false;
+                for (int a = 0; a < types; a++) {
+                    if (dist[a] == Double.POSITIVE_INFINITY) continue;
+                    for (int b = 0; b < types; b++) {
+                        if (a == b) continue;
+                        int j = topAssigned(move[a][b], a);
+                        if (j < 0) continue;
+                        double d = dist[a] + move[a][b].topKey();
+                        if (d < dist[b] - 1e-9) {
+                            dist[b] = d;
+                            predType[b] = a;
+                            predStudent[b] = j;
+                            changed = true;
+                        }
+                    }
+                }
+                if (!changed) break;
+            }
+
+            int target = -1;
+            for (int t = 0; t < types; t++) {
+                if (capacity[t] > 0 && dist[t] != Double.POSITIVE_INFINITY
+                        && (target < 0 || dist[t] < dist[target])) {
+                    target = t;
+                }
+            }
+            if (target < 0) break;
+
+            capacity[target]--;
+            int t = target;
+            while (t >= 0) {
+                int student = predStudent[t];
+                int from = predType[t];
+                assigned[student] = t;
+                for (int u = 0; u < types; u++) {
+                    double c = costs[student * types + u];
+                    if (u != t && c != Double.POSITIVE_INFINITY) {
+                        move[t][u].push(c - costs[student * types + t], student);
+                    }
+                }
+                t = from;
+            }
+            augmentations++;
+        }
+        return Arrays.copyOf(assigned, students);
+    }
+
+    public int getAugmentations() {
+        return augmentations;
+    }
+
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    private int topUnassigned(Heap heap) {
+        while (!heap.isEmpty() && assigned[heap.topValue()] != -1) heap.pop();
+        return heap.isEmpty() ? -1 : heap.topValue();
+    }
+
+    private int topAssigned(Heap heap, int type) {
+        // A move key only depends on the student's current type, so an entry is
+        // stale exactly when the student has since left that type
+        while (!heap.isEmpty() && assigned[heap.topValue()] != type) heap.pop();
+        return heap.isEmpty() ? -1 : heap.topValue();
+    }
+
+    /**
+     * Binary min-heap of (double key, int value) pairs in parallel arrays
+     */
+    private static final class Heap {
+        private double[] keys = new double[16];
+        private int[] values = new int[16];
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        double topKey() {
+            return keys[0];
+        }
+
+        int topValue() {
+            return values[0];
+        }
+
+        void push(double key, int value) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (keys[parent] <= key) break;
+                keys[i] = keys[parent];
+                values[i] = values[parent];
+                i = parent;
+            }
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        void pop() {
+            double key = keys[--size];
+            int value = values[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) break;
+                if (child + 1 < size && keys[child + 1] < keys[child]) child++;
+                if (keys[child] >= key) break;
+                keys[i] = keys[child];
+                values[i] = values[child];
+                i = child;
+            }
+            keys[i] = key;
+            values[i] = value;
+        }
+    }
+}
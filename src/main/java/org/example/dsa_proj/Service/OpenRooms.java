@@ -0,0 +1,86 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.Room;
+
+import java.util.*;
+
+/**
+ * Open Rooms
+ *
+ * Rooms with at least a given number of free beds, in room order, split into
+ * empty rooms and occupied rooms per occupant gender. Allocators take rooms
+ * from here so a room only ever holds students of one gender: a student joins
+ * a room already holding their gender, else an empty one. Rooms whose current
+ * occupants are of several genders take no one.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+final class OpenRooms {
+
+    /** Gender recorded for rooms already holding several genders; no student has it */
+    static final long MIXED = -1;
+
+    private final AllocationPlan plan;
+    private final Map<Long, Long> roomGender;
+    private final int beds;
+    private final Deque<Long> empty = new ArrayDeque<>();
+    private final Map<Long, Deque<Long>> byGender = new HashMap<>();
+
+    /**
+     * @param plan Plan whose remaining capacity is tracked
+     * @param rooms Candidate rooms, in the order they should fill
+     * @param roomGender Occupant gender per occupied room; updated as rooms are taken
+     * @param beds Free beds a room needs to be handed out
+     */
+    OpenRooms(AllocationPlan plan, List<Room> rooms, Map<Long, Long> roomGender, int beds) {
+        this.plan = plan;
+        this.roomGender = roomGender;
+        this.beds = beds;
+        for (Room room : rooms) {
+            Long roomId = room.getRoomId();
+            if (plan.getRemainingCapacity(roomId) < beds) continue;
+            Long gender = roomGender.get(roomId);
+            if (gender == null) {
+                empty.add(roomId);
+            } else {
+                byGender.computeIfAbsent(gender, g -> new ArrayDeque<>()).add(roomId);
+            }
+        }
+    }
+
+    /**
+     * Occupant gender of each room from occupant profile rows
+     * (roomId, studentId, then the profile columns)
+     * @return gender key per room, {@link #MIXED} where occupants differ
+     */
+    static Map<Long, Long> occupantGenders(List<Object[]> occupantRows) {
+        Map<Long, Long> roomGender = new HashMap<>();
+        for (Object[] row : occupantRows) {
+            long gender = CompatibilityProfile.fromRow(row, 2).genderKey();
+            roomGender.merge((Long) row[0], gender, (a, b) -> a.equals(b) ? a : MIXED);
+        }
+        return roomGender;
+    }
+
+    /**
+     * Room for students of a gender: one already holding that gender first, else an empty one
+     * @return room ID, or null when none is left; the room now belongs to the gender
+     */
+    Long take(long gender) {
+        if (gender == 0) return null;
+        Deque<Long> rooms = byGender.computeIfAbsent(gender, g -> new ArrayDeque<>());
+        while (!rooms.isEmpty() && plan.getRemainingCapacity(rooms.peek()) < beds) rooms.poll();
+        Long roomId = rooms.poll();
+        if (roomId == null) roomId = empty.poll();
+        if (roomId != null) roomGender.put(roomId, gender);
+        return roomId;
+    }
+
+    /**
+     * Return a room after assigning into it; it stays first in line while it has space
+     */
+    void release(Long roomId) {
+        if (plan.getRemainingCapacity(roomId) >= beds) byGender.get(roomGender.get(roomId)).addFirst(roomId);
+    }
+}
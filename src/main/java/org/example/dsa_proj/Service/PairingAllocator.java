@@ -0,0 +1,107 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.Room;
+import org.example.dsa_proj.Models.RoomType;
+import org.example.dsa_proj.Rep.RoomateRepo;
+import org.example.dsa_proj.Rep.waitlist;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pairing Allocator
+ *
+ * Places waiting students into two-bed rooms as pairs chosen by
+ * {@link RoommateMatcher}, so the pairing is good for the whole intake rather
+ * than for one student at a time. Only as many top-priority students as there
+ * are free beds take part; pairs go into rooms with at least two free beds and
+ * whoever is left fills the remaining single beds. A room never mixes genders:
+ * students only join a room that is empty or already holds their gender.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+public class PairingAllocator {
+
+    @Autowired
+    private waitlist waitRepo;
+
+    @Autowired
+    private RoomateRepo roomateRepo;
+
+    @Value("${allocation.pairing.candidates-per-student:10}")
+    private int candidatesPerStudent;
+
+    @Value("${allocation.pairing.time-budget-ms:5000}")
+    private long timeBudgetMillis;
+
+    /**
+     * Build a pairing plan for one room type
+     * @param roomType Room type being allocated (normally Double)
+     * @param availableRooms Available rooms of that type
+     * @param waitingStudentIds Waiting students in priority order
+     * @return plan, not yet written
+     */
+    public AllocationPlan plan(RoomType roomType, List<Room> availableRooms, List<Long> waitingStudentIds) {
+        AllocationPlan plan = new AllocationPlan("Roommate Pairing");
+        availableRooms.forEach(plan::trackRoom);
+
+        Map<Long, CompatibilityProfile> byStudent = new HashMap<>();
+        for (Object[] row : waitRepo.findWaitingProfilesByRoomType(roomType)) {
+            byStudent.putIfAbsent((Long) row[0], CompatibilityProfile.fromRow(row, 1));
+        }
+        List<Long> students = new ArrayList<>();
+        for (Long id : waitingStudentIds) {
+            if (byStudent.containsKey(id)) students.add(id);
+        }
+        CompatibilityProfile[] profiles = new CompatibilityProfile[students.size()];
+        for (int i = 0; i < profiles.length; i++) profiles[i] = byStudent.get(students.get(i));
+
+        RoommateMatcher matcher = new RoommateMatcher(profiles);
+        int[] mate = matcher.match(candidatesPerStudent,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis));
+
+        // Gender of each room's current occupants; a room only ever takes students of one gender
+        Map<Long, Long> roomGender = OpenRooms.occupantGenders(roomateRepo.findOccupantProfilesByRoomType(roomType));
+
+        // Pairs in priority order of their higher-priority member; ordinals already follow priority
+        OpenRooms pairRooms = new OpenRooms(plan, availableRooms, roomGender, 2);
+        List<Integer> leftovers = new ArrayList<>();
+        int pairs = 0;
+        for (int i = 0; i < mate.length; i++) {
+            int j = mate[i];
+            if (j >= 0 && j < i) continue;
+            if (j < 0) {
+                leftovers.add(i);
+                continue;
+            }
+            Long roomId = pairRooms.take(profiles[i].genderKey());
+            if (roomId == null) {
+                leftovers.add(i);
+                leftovers.add(j);
+                continue;
+            }
+            int score = (int) Math.round(profiles[i].score(profiles[j]) * 100.0 / CompatibilityProfile.MAX_SCORE);
+            plan.assign(students.get(i), roomId, score);
+            plan.assign(students.get(j), roomId, score);
+            pairRooms.release(roomId);
+            pairs++;
+        }
+        plan.setNote(String.format("%d pairs, total compatibility %d, %d edges, %d improvements",
+                pairs, matcher.totalWeight(), matcher.getEdgeCount(), matcher.getImprovements()));
+
+        // Single beds go to leftovers of the gender already in the room, or to an empty room
+        OpenRooms beds = new OpenRooms(plan, availableRooms, roomGender, 1);
+        for (int i : leftovers) {
+            Long roomId = beds.take(profiles[i].genderKey());
+            if (roomId == null) continue;
+            plan.assign(students.get(i), roomId);
+            beds.release(roomId);
+        }
+        return plan;
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.Preference;
+import org.example.dsa_proj.Rep.PrefRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Preference Service
+ *
+ * Reads and writes student lifestyle preferences. Every write refreshes the
+ * student's row in the compatibility top-K index and their interests in the
+ * interest index once it commits.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+@Transactional
+public class PreferenceService {
+
+    @Autowired
+    private PrefRepo prefRepo;
+
+    @Autowired
+    private CompatibilityTopKIndex topKIndex;
+
+    @Autowired
+    private InterestIndex interestIndex;
+
+    /**
+     * Get the preference rows of a student
+     * @param studentId Student ID
+     * @return preference rows, usually one
+     */
+    public List<Preference> getPreferencesByStudent(Long studentId) {
+        return prefRepo.findByStudent_StudentId(studentId);
+    }
+
+    /**
+     * Save or update a preference row
+     * @param preference Preference with its student set
+     * @return saved preference
+     * @throws IllegalArgumentException if the preference has no student
+     */
+    public Preference savePreference(Preference preference) {
+        if (preference == null || preference.getStudent() == null) {
+            throw new IllegalArgumentException("Preference must belong to a student");
+        }
+        Preference saved = prefRepo.save(preference);
+        Long studentId = preference.getStudent().getStudentId();
+        topKIndex.refreshAfterCommit(Collections.singletonList(studentId));
+        interestIndex.refreshAfterCommit(studentId);
+        return saved;
+    }
+
+    /**
+     * Delete a preference row
+     * @param preferenceId Preference ID
+     * @throws IllegalArgumentException if not found
+     */
+    public void deletePreference(Long preferenceId) {
+        Preference preference = prefRepo.findById(preferenceId)
+                .orElseThrow(() -> new IllegalArgumentException("Preference with ID " + preferenceId + " not found"));
+        Long studentId = preference.getStudent().getStudentId();
+        prefRepo.delete(preference);
+        topKIndex.refreshAfterCommit(Collections.singletonList(studentId));
+        interestIndex.refreshAfterCommit(studentId);
+    }
+}
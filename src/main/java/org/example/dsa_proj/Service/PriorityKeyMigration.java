@@ -0,0 +1,73 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.WaitList;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Priority Key Migration
+ *
+ * Replaces wait_list.priority_score, a score that was only correct on the day
+ * it was written, with the time-invariant priority_key (see {@link WaitList}).
+ * Runs at startup after data.sql, on H2 and PostgreSQL, and does nothing once
+ * priority_score is gone. Each stored score is taken as today's score, so the
+ * queue keeps its current order:
+ *
+ * - priority_key is set to the score minus today's aging points
+ * - the two priority indexes, which schema update kept on the old column
+ *   because their names already existed, are rebuilt on priority_key
+ * - priority_score is dropped
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+@DependsOnDatabaseInitialization
+public class PriorityKeyMigration {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        if (!hasColumn("wait_list", "priority_score")) return;
+        if (!hasColumn("wait_list", "priority_key")) {
+            jdbcTemplate.execute("ALTER TABLE wait_list ADD COLUMN priority_key DOUBLE PRECISION");
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE wait_list SET priority_key = CAST(priority_score AS DOUBLE PRECISION) - ?",
+                WaitList.agingPoints(LocalDate.now())));
+        jdbcTemplate.execute("ALTER TABLE wait_list ALTER COLUMN priority_key SET NOT NULL");
+        jdbcTemplate.execute("DROP INDEX IF EXISTS idx_waitlist_priority");
+        jdbcTemplate.execute("DROP INDEX IF EXISTS idx_waitlist_type_priority");
+        jdbcTemplate.execute("ALTER TABLE wait_list DROP COLUMN priority_score");
+        jdbcTemplate.execute("CREATE INDEX idx_waitlist_priority ON wait_list (priority_key DESC)");
+        jdbcTemplate.execute("CREATE INDEX idx_waitlist_type_priority ON wait_list "
+                + "(preferred_room_type, priority_key DESC, wait_id)");
+    }
+
+    private boolean hasColumn(String table, String column) {
+        return jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean upper = metaData.storesUpperCaseIdentifiers();
+            try (ResultSet rs = metaData.getColumns(connection.getCatalog(), null,
+                    upper ? table.toUpperCase(Locale.ROOT) : table,
+                    upper ? column.toUpperCase(Locale.ROOT) : column)) {
+                return rs.next();
+            }
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.Room;
+import org.example.dsa_proj.Models.RoomStatus;
+import org.example.dsa_proj.Models.RoomType;
+
+/**
+ * Room Occupancy Changed Event
+ *
+ * Published by RoomService.updateOccupancy with the room's state before and
+ * after the change.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public class RoomOccupancyChangedEvent {
+
+    private final Long roomId;
+    private final String hostelBlock;
+    private final RoomType roomType;
+    private final int occupancyChange;
+    private final RoomStatus previousStatus;
+    private final RoomStatus status;
+    private final boolean previouslyAvailable;
+    private final boolean available;
+    private final boolean previouslyFull;
+    private final boolean full;
+
+    /**
+     * @param room Room after the change
+     * @param occupancyChange Beds taken (positive) or freed (negative)
+     * @param previousStatus Status before the change
+     * @param previouslyAvailable Room.hasAvailableSpace before the change
+     * @param previouslyFull Room.isFull before the change
+     */
+    public RoomOccupancyChangedEvent(Room room, int occupancyChange, RoomStatus previousStatus,
+                                     boolean previouslyAvailable, boolean previouslyFull) {
+        this.roomId = room.getRoomId();
+        this.hostelBlock = room.getHostelBlock();
+        this.roomType = room.getRoomType();
+        this.occupancyChange = occupancyChange;
+        this.previousStatus = previousStatus;
+        this.status = room.getStatus();
+        this.previouslyAvailable = previouslyAvailable;
+        this.available = room.hasAvailableSpace();
+        this.previouslyFull = previouslyFull;
+        this.full = room.isFull();
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public String getHostelBlock() {
+        return hostelBlock;
+    }
+
+    public RoomType getRoomType() {
+        return roomType;
+    }
+
+    public int getOccupancyChange() {
+        return occupancyChange;
+    }
+
+    public RoomStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public RoomStatus getStatus() {
+        return status;
+    }
+
+    public boolean isPreviouslyAvailable() {
+        return previouslyAvailable;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public boolean isPreviouslyFull() {
+        return previouslyFull;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+}
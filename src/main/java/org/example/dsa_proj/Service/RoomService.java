@@ -1,9 +1,16 @@
 package org.example.dsa_proj.Service;
+import org.example.dsa_proj.Models.BlockTemplate;
 import org.example.dsa_proj.Models.Room;
+import org.example.dsa_proj.Models.RoomStatus;
+import org.example.dsa_proj.Models.RoomType;
 import org.example.dsa_proj.Rep.RoomRepo;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 public class RoomService {
@@ -11,29 +18,80 @@ public class RoomService {
     @Autowired
     private RoomRepo roomRepo;
 
+    @Autowired
+    private HostelCounters counters;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public List<Room> getAllRooms() {
         return roomRepo.findAll();
     }
 
+    /**
+     * One keyset page of rooms in ID order; blank filters match any room
+     * @param afterId Last room ID of the previous page, null for the first page
+     */
+    public Slice<Room> getRoomPage(Long afterId, RoomStatus status, String block, RoomType roomType, int size) {
+        return roomRepo.findPageAfter(afterId == null ? 0 : afterId, status,
+                KeysetPages.filter(block), roomType, KeysetPages.limit(size));
+    }
+
     public Optional<Room> getRoomById(Long id) {
         return roomRepo.findById(id);
     }
 
-    public List<Room> getAvailableRoomsByType(String roomType) {
-        return roomRepo.findByRoomTypeAndStatus(roomType, "Available");
+    public List<Room> getAvailableRoomsByType(RoomType roomType) {
+        return roomRepo.findByRoomTypeAndStatus(roomType, RoomStatus.AVAILABLE);
+    }
+
+    public List<Room> getAvailableRooms() {
+        return roomRepo.findByStatus(RoomStatus.AVAILABLE);
     }
 
     public Room saveRoom(Room room) {
-        return roomRepo.save(room);
+        boolean isNew = room.getRoomId() == null;
+        Room saved = roomRepo.save(room);
+        if (isNew) counters.reconcileAfterCommit();
+        return saved;
+    }
+
+    /**
+     * Create every room of a new block in one transaction; the inserts go out
+     * as JDBC batches
+     * @param template Block layout
+     * @return the new rooms in room number order
+     * @throws IllegalArgumentException if the template is invalid or a room number is already taken
+     */
+    @Transactional
+    public List<Room> provisionBlock(BlockTemplate template) {
+        List<Room> rooms = template.toRooms();
+        Set<String> taken = new HashSet<>(roomRepo.findRoomNumbersByHostelBlock(rooms.get(0).getHostelBlock()));
+        List<String> clashes = rooms.stream()
+                .map(Room::getRoomNumber)
+                .filter(taken::contains)
+                .collect(Collectors.toList());
+        if (!clashes.isEmpty()) {
+            throw new IllegalArgumentException(clashes.size() + " room number(s) already exist, e.g. "
+                    + String.join(", ", clashes.subList(0, Math.min(5, clashes.size()))));
+        }
+        List<Room> saved = roomRepo.saveAll(rooms);
+        counters.reconcileAfterCommit();
+        return saved;
     }
 
     public void updateOccupancy(Room room, int change) {
+        RoomStatus previousStatus = room.getStatus();
+        boolean previouslyAvailable = room.hasAvailableSpace();
+        boolean previouslyFull = room.isFull();
         room.setOccupancy(room.getOccupancy() + change);
         if (room.getOccupancy() >= room.getCapacity())
-            room.setStatus("Full");
+            room.setStatus(RoomStatus.FULL);
         else
-            room.setStatus("Available");
+            room.setStatus(RoomStatus.AVAILABLE);
         roomRepo.save(room);
+        eventPublisher.publishEvent(new RoomOccupancyChangedEvent(room, change, previousStatus,
+                previouslyAvailable, previouslyFull));
     }
 }
 
@@ -2,6 +2,7 @@ package org.example.dsa_proj.Service;
 
 
 import org.example.dsa_proj.Models.RoomSwapRequest;
+import org.example.dsa_proj.Models.SwapStatus;
 import org.example.dsa_proj.Rep.RoomSwapRepo;
 import org.example.dsa_proj.Rep.RoomateRepo;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,7 +18,7 @@ public class RoomSwapService {
 
     public RoomSwapRequest requestSwap(RoomSwapRequest req) {
         req.setRequestDate(LocalDate.now());
-        req.setStatus("Pending");
+        req.setStatus(SwapStatus.PENDING);
         return swapRepo.save(req);
     }
 
@@ -25,7 +26,7 @@ public class RoomSwapService {
         return swapRepo.findAll();
     }
 
-    public void updateStatus(Long id, String status) {
+    public void updateStatus(Long id, SwapStatus status) {
         RoomSwapRequest req = swapRepo.findById(id).orElseThrow();
         req.setStatus(status);
         swapRepo.save(req);
@@ -36,7 +37,7 @@ public class RoomSwapService {
      * @return List of pending requests
      */
     public List<RoomSwapRequest> getPendingRequests() {
-        return swapRepo.findByStatusOrderByRequestDateAsc("Pending");
+        return swapRepo.findByStatusOrderByRequestDateAsc(SwapStatus.PENDING);
     }
     
     /**
@@ -3,11 +3,14 @@ package org.example.dsa_proj.Service;
 import org.example.dsa_proj.Models.Room;
 import org.example.dsa_proj.Models.Roommate;
 import org.example.dsa_proj.Models.Student;
+import org.example.dsa_proj.Models.StudentStatus;
 import org.example.dsa_proj.Rep.RoomateRepo;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -22,6 +25,15 @@ public class RoomateService {
     
     @Autowired
     private RoomateRepo roomateRepo;
+
+    @Autowired
+    private RoommateCandidateIndex candidateIndex;
+
+    @Autowired
+    private CompatibilityTopKIndex topKIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     
     /**
      * Assign a student to a room
@@ -36,8 +48,14 @@ public class RoomateService {
         roomateRepo.save(roommate);
         
         // Update student's allocated room
+        StudentStatus previousStatus = student.getStatus();
+        boolean previouslyAllocated = student.isAllocated();
         student.setAllocatedRoom(room);
-        student.setStatus("Allocated");
+        student.setStatus(StudentStatus.ALLOCATED);
+        eventPublisher.publishEvent(new StudentStatusChangedEvent(student.getStudentId(),
+                previousStatus, student.getStatus(), previouslyAllocated, student.isAllocated()));
+        candidateIndex.updateAfterCommit(student);
+        topKIndex.removeAfterCommit(Collections.singletonList(student.getStudentId()));
     }
     
     /**
@@ -51,8 +69,14 @@ public class RoomateService {
             roomateRepo.save(roommate);
         }
         
+        StudentStatus previousStatus = student.getStatus();
+        boolean previouslyAllocated = student.isAllocated();
         student.setAllocatedRoom(null);
-        student.setStatus("Waiting");
+        student.setStatus(StudentStatus.WAITING);
+        eventPublisher.publishEvent(new StudentStatusChangedEvent(student.getStudentId(),
+                previousStatus, student.getStatus(), previouslyAllocated, false));
+        candidateIndex.updateAfterCommit(student);
+        topKIndex.refreshAfterCommit(Collections.singletonList(student.getStudentId()));
     }
     
     /**
@@ -0,0 +1,181 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.Student;
+import org.example.dsa_proj.Rep.StudentRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Roommate Candidate Index
+ *
+ * Resident index of the students still waiting for a room, bucketed by their
+ * packed student word (gender, branch, preference type). Every member of a
+ * bucket has the same StudentService.calculateCompatibility score against a
+ * given student, so a search scores each bucket once and fills the K slots
+ * from the highest score down, stopping once they are full.
+ *
+ * Within a score, students who share interests with the target come first,
+ * most IDF-weighted overlap first ({@link InterestIndex#weightedOverlaps}),
+ * then everyone else by lower student ID. Only students sharing an interest
+ * need an overlap, so the rest of a bucket is still read in ID order and at
+ * most the open slots are taken from each.
+ *
+ * Loaded when the application is ready and kept in sync by StudentService,
+ * RoomateService and AllocationService after their transactions commit.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+public class RoommateCandidateIndex {
+
+    private static final int MAX_STUDENT_SCORE = 6;
+
+    @Autowired
+    private StudentRepo studentRepo;
+
+    @Autowired
+    private InterestIndex interestIndex;
+
+    private final Map<Long, TreeSet<Long>> buckets = new HashMap<>();
+    private final Map<Long, Long> wordByStudent = new HashMap<>();
+
+    /**
+     * Load every waiting student (runs after data.sql)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        buckets.clear();
+        wordByStudent.clear();
+        for (Object[] row : studentRepo.findWaitingStudentWords()) {
+            put((Long) row[0], CompatibilityProfile.encodeStudent((String) row[1], (String) row[2], (String) row[3]));
+        }
+    }
+
+    /**
+     * Add, move or drop a student according to their current status
+     * @param student Student entity as saved
+     */
+    public synchronized void update(Student student) {
+        if (student.getStudentId() == null) return;
+        remove(student.getStudentId());
+        if (student.isWaiting()) put(student.getStudentId(), encode(student));
+    }
+
+    /**
+     * Apply {@link #update(Student)} once the current transaction commits
+     * @param student Student entity
+     */
+    public void updateAfterCommit(Student student) {
+        AfterCommit.run(() -> update(student));
+    }
+
+    /**
+     * Drop students once the current transaction commits
+     * @param studentIds Student IDs
+     */
+    public void removeAfterCommit(Collection<Long> studentIds) {
+        List<Long> ids = new ArrayList<>(studentIds);
+        AfterCommit.run(() -> removeAll(ids));
+    }
+
+    public synchronized void removeAll(Collection<Long> studentIds) {
+        for (Long id : studentIds) remove(id);
+    }
+
+    public synchronized boolean remove(Long studentId) {
+        Long word = wordByStudent.remove(studentId);
+        if (word == null) return false;
+        TreeSet<Long> bucket = buckets.get(word);
+        bucket.remove(studentId);
+        if (bucket.isEmpty()) buckets.remove(word);
+        return true;
+    }
+
+    public synchronized int size() {
+        return wordByStudent.size();
+    }
+
+    /**
+     * Best waiting candidates for one student
+     * @param student Target student (need not be waiting)
+     * @param k Maximum number of candidates
+     * @return candidate student IDs, highest compatibility first
+     */
+    public synchronized List<Long> findTop(Student student, int k) {
+        return search(encode(student), student.getStudentId(), k);
+    }
+
+    /**
+     * Best waiting candidates for several students under one lock
+     * @param students Target students
+     * @param k Maximum number of candidates per student
+     * @return candidate IDs per target student ID, highest compatibility first
+     */
+    public synchronized Map<Long, List<Long>> findTop(Collection<Student> students, int k) {
+        Map<Long, List<Long>> result = new LinkedHashMap<>();
+        for (Student student : students) {
+            result.put(student.getStudentId(), search(encode(student), student.getStudentId(), k));
+        }
+        return result;
+    }
+
+    private List<Long> search(long target, Long targetId, int k) {
+        if (k <= 0) return new ArrayList<>();
+        // Buckets by score against the target; a bucket is scored once, not per member
+        List<List<TreeSet<Long>>> byScore = new ArrayList<>();
+        List<List<Long>> sharingByScore = new ArrayList<>();
+        for (int s = 0; s <= MAX_STUDENT_SCORE; s++) {
+            byScore.add(new ArrayList<>());
+            sharingByScore.add(new ArrayList<>());
+        }
+        buckets.forEach((word, members) ->
+                byScore.get(CompatibilityProfile.studentScore(target, word)).add(members));
+
+        // Waiting students sharing interests with the target lead their score
+        Map<Long, Double> overlaps = targetId == null ? Collections.emptyMap() : interestIndex.weightedOverlaps(targetId);
+        overlaps.keySet().forEach(id -> {
+            Long word = wordByStudent.get(id);
+            if (word != null) sharingByScore.get(CompatibilityProfile.studentScore(target, word)).add(id);
+        });
+        Comparator<Long> mostShared = Comparator.comparingDouble((Long id) -> overlaps.get(id)).reversed()
+                .thenComparing(Comparator.naturalOrder());
+
+        List<Long> result = new ArrayList<>(k);
+        for (int score = MAX_STUDENT_SCORE; score >= 0 && result.size() < k; score--) {
+            List<Long> sharing = sharingByScore.get(score);
+            sharing.sort(mostShared);
+            result.addAll(sharing.subList(0, Math.min(sharing.size(), k - result.size())));
+
+            int open = k - result.size();
+            if (open == 0) break;
+            // Members are in ID order, so each bucket offers at most the open slots
+            List<Long> rest = new ArrayList<>();
+            for (TreeSet<Long> members : byScore.get(score)) {
+                int taken = 0;
+                for (Long id : members) {
+                    if (taken == open) break;
+                    if (id.equals(targetId) || overlaps.containsKey(id)) continue;
+                    rest.add(id);
+                    taken++;
+                }
+            }
+            Collections.sort(rest);
+            result.addAll(rest.subList(0, Math.min(rest.size(), open)));
+        }
+        return result;
+    }
+
+    private void put(Long studentId, long word) {
+        wordByStudent.put(studentId, word);
+        buckets.computeIfAbsent(word, w -> new TreeSet<>()).add(studentId);
+    }
+
+    private static long encode(Student student) {
+        return CompatibilityProfile.encodeStudent(student.getGender(), student.getBranch(), student.getPreferenceType());
+    }
+}
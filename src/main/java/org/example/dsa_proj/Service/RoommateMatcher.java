@@ -0,0 +1,224 @@
+package org.example.dsa_proj.Service;
+
+import java.util.*;
+
+/**
+ * Roommate Matcher
+ *
+ * Approximate maximum-weight perfect matching on the compatibility graph of
+ * students who want to share a two-bed room.
+ *
+ * The complete graph is never materialised. Each student gets edges to their
+ * top candidates only, stored as a compact primitive edge list (three int
+ * arrays). Candidates are searched in blocking buckets of students who share
+ * gender, preference type and branch, widening the bucket only when it is too
+ * small, and at most SCAN_WINDOW members are scored per bucket.
+ *
+ * Matching is greedy by descending weight (counting sort over the small integer
+ * weight range, a 1/2-approximation), followed by improvement passes that apply
+ * weight-increasing augmentations of length two and pair swaps until none is
+ * left or the deadline passes. Students still unmatched are then paired with
+ * each other, only ever with someone of the same gender; candidate edges never
+ * cross genders either, so every pair shares one.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public final class RoommateMatcher {
+
+    /** Most candidates scored per student in one blocking bucket */
+    private static final int SCAN_WINDOW = 2000;
+
+    private final CompatibilityProfile[] profiles;
+    private final CompatibilityVectors vectors;
+    private final int[] mate;
+
+    private int[] edgeU = new int[0];
+    private int[] edgeV = new int[0];
+    private int[] edgeW = new int[0];
+    private int edges;
+    private int improvements;
+
+    /**
+     * @param profiles Profile of every student; the array index is the student ordinal
+     */
+    public RoommateMatcher(CompatibilityProfile[] profiles) {
+        this.profiles = profiles;
+        this.vectors = CompatibilityVectors.of(profiles);
+        this.mate = new int[profiles.length];
+        Arrays.fill(mate, -1);
+    }
+
+    /**
+     * Compute the pairing
+     * @param candidatesPerStudent Edges kept per student
+     * @param deadlineNanos System.nanoTime() value after which improvement stops
+     * @return mate ordinal per student, -1 for the odd one out of each gender
+     */
+    public int[] match(int candidatesPerStudent, long deadlineNanos) {
+        buildCandidateEdges(candidatesPerStudent);
+        greedy();
+        improve(deadlineNanos);
+        pairLeftovers();
+        return mate.clone();
+    }
+
+    public int getEdgeCount() {
+        return edges;
+    }
+
+    public int getImprovements() {
+        return improvements;
+    }
+
+    /**
+     * Total compatibility of the current pairing
+     */
+    public long totalWeight() {
+        long total = 0;
+        for (int i = 0; i < mate.length; i++) {
+            if (mate[i] > i) total += weight(i, mate[i]);
+        }
+        return total;
+    }
+
+    private int weight(int a, int b) {
+        return vectors.score(a, b);
+    }
+
+    private void buildCandidateEdges(int k) {
+        // Blocking tiers, tightest first: same gender, preference type and branch
+        // (all 6 student points), then gender and preference type, then gender
+        List<Map<Long, int[]>> tiers = new ArrayList<>();
+        tiers.add(block(true, true));
+        tiers.add(block(false, true));
+        tiers.add(block(false, false));
+
+        int capacity = profiles.length * k;
+        edgeU = new int[capacity];
+        edgeV = new int[capacity];
+        edgeW = new int[capacity];
+        int[] bestIdx = new int[k];
+        int[] bestW = new int[k];
+        // seenBy[t] == s + 1 marks t as already scored for student s
+        int[] seenBy = new int[profiles.length];
+        for (int s = 0; s < profiles.length; s++) {
+            int found = 0;
+            seenBy[s] = s + 1;
+            for (int tier = 0; tier < tiers.size() && found < k; tier++) {
+                int[] bucket = tiers.get(tier).get(profiles[s].blockingKey(tier == 0, tier <= 1));
+                // Scan a bounded window that starts at a student-specific offset,
+                // so large buckets cost O(SCAN_WINDOW) and no member becomes a hub
+                int window = Math.min(bucket.length, SCAN_WINDOW);
+                int start = Math.floorMod(s * 31, bucket.length);
+                for (int step = 0; step < window; step++) {
+                    int t = bucket[(start + step) % bucket.length];
+                    if (seenBy[t] == s + 1) continue;
+                    seenBy[t] = s + 1;
+                    int w = weight(s, t);
+                    if (found < k) {
+                        bestIdx[found] = t;
+                        bestW[found++] = w;
+                    } else {
+                        int min = 0;
+                        for (int i = 1; i < k; i++) if (bestW[i] < bestW[min]) min = i;
+                        if (w > bestW[min]) {
+                            bestIdx[min] = t;
+                            bestW[min] = w;
+                        }
+                    }
+                }
+            }
+            for (int i = 0; i < found; i++) {
+                edgeU[edges] = s;
+                edgeV[edges] = bestIdx[i];
+                edgeW[edges] = bestW[i];
+                edges++;
+            }
+        }
+    }
+
+    private Map<Long, int[]> block(boolean withBranch, boolean withPreferenceType) {
+        Map<Long, List<Integer>> lists = new HashMap<>();
+        for (int i = 0; i < profiles.length; i++) {
+            lists.computeIfAbsent(profiles[i].blockingKey(withBranch, withPreferenceType),
+                    key -> new ArrayList<>()).add(i);
+        }
+        Map<Long, int[]> buckets = new HashMap<>();
+        lists.forEach((key, list) -> buckets.put(key, list.stream().mapToInt(Integer::intValue).toArray()));
+        return buckets;
+    }
+
+    private void greedy() {
+        int maxWeight = 0;
+        for (int e = 0; e < edges; e++) maxWeight = Math.max(maxWeight, edgeW[e]);
+        int[] count = new int[maxWeight + 2];
+        for (int e = 0; e < edges; e++) count[maxWeight - edgeW[e] + 1]++;
+        for (int i = 1; i < count.length; i++) count[i] += count[i - 1];
+        int[] order = new int[edges];
+        for (int e = 0; e < edges; e++) order[count[maxWeight - edgeW[e]]++] = e;
+
+        for (int e : order) {
+            int u = edgeU[e];
+            int v = edgeV[e];
+            if (mate[u] < 0 && mate[v] < 0) {
+                mate[u] = v;
+                mate[v] = u;
+            }
+        }
+    }
+
+    private void improve(long deadlineNanos) {
+        boolean improved = true;
+        while (improved && deadlineNanos - System.nanoTime() > 0) {
+            improved = false;
+            for (int e = 0; e < edges; e++) {
+                int u = edgeU[e];
+                int v = edgeV[e];
+                int mu = mate[u];
+                int mv = mate[v];
+                if (mu == v) continue;
+                int w = edgeW[e];
+
+                if (mu < 0 && mv < 0) {
+                    link(u, v);
+                } else if (mu < 0 || mv < 0) {
+                    // One side free: take the edge if it beats the pair it breaks
+                    int matched = mu < 0 ? v : u;
+                    int partner = mate[matched];
+                    if (w <= weight(matched, partner)) continue;
+                    mate[partner] = -1;
+                    link(u, v);
+                } else {
+                    // Both matched: swap partners if the two new pairs are heavier
+                    if (w + weight(mu, mv) <= weight(u, mu) + weight(v, mv)) continue;
+                    link(u, v);
+                    link(mu, mv);
+                }
+                improvements++;
+                improved = true;
+            }
+        }
+    }
+
+    private void pairLeftovers() {
+        // Unpaired student per gender, waiting for a partner
+        Map<Long, Integer> waiting = new HashMap<>();
+        for (int i = 0; i < mate.length; i++) {
+            if (mate[i] >= 0) continue;
+            long gender = profiles[i].genderKey();
+            if (gender == 0) continue;
+            Integer partner = waiting.remove(gender);
+            if (partner == null) {
+                waiting.put(gender, i);
+            } else {
+                link(partner, i);
+            }
+        }
+    }
+
+    private void link(int a, int b) {
+        mate[a] = b;
+        mate[b] = a;
+    }
+}
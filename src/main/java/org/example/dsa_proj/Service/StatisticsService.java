@@ -0,0 +1,217 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.Room;
+import org.example.dsa_proj.Models.StudentRow;
+import org.example.dsa_proj.Models.StudentStatus;
+import org.example.dsa_proj.Models.WaitList;
+import org.example.dsa_proj.Rep.RoomRepo;
+import org.example.dsa_proj.Rep.StudentRepo;
+import org.example.dsa_proj.Rep.waitlist;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Statistics Service
+ *
+ * Dashboard figures. The counts are read in O(1) from {@link HostelCounters};
+ * {@link #queryDashboardStatistics()} computes the same figures in the
+ * database with COUNT / GROUP BY projection queries, so no student, room or
+ * waitlist entity is loaded to count it. The "recent" lists come from LIMITed
+ * queries.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+@Transactional(readOnly = true)
+public class StatisticsService {
+
+    @Autowired
+    private StudentRepo studentRepo;
+
+    @Autowired
+    private RoomRepo roomRepo;
+
+    @Autowired
+    private waitlist waitRepo;
+
+    @Autowired
+    private HostelCounters counters;
+
+    /**
+     * Counts shown on the dashboards, from the in-process counters
+     * @return student, room and waitlist counts
+     */
+    public DashboardStatistics getDashboardStatistics() {
+        DashboardStatistics stats = new DashboardStatistics();
+        stats.totalStudents = counters.getTotalStudents();
+        stats.allocatedStudents = counters.getAllocatedStudents();
+        stats.waitingStudents = counters.getWaitingStudents();
+        stats.totalRooms = counters.getTotalRooms();
+        stats.availableRooms = counters.getAvailableRooms();
+        stats.fullRooms = counters.getFullRooms();
+        stats.waitlistSize = counters.getWaitlistSize();
+        return stats;
+    }
+
+    /**
+     * Counts shown on the dashboards, computed by the database
+     * @return student, room and waitlist counts
+     */
+    public DashboardStatistics queryDashboardStatistics() {
+        Object[] students = studentRepo.countByAllocationState().get(0);
+        Object[] rooms = roomRepo.countByAvailability().get(0);
+
+        DashboardStatistics stats = new DashboardStatistics();
+        stats.totalStudents = count(students[0]);
+        stats.allocatedStudents = count(students[1]);
+        stats.waitingStudents = count(students[2]);
+        stats.totalRooms = count(rooms[0]);
+        stats.availableRooms = count(rooms[1]);
+        stats.fullRooms = count(rooms[2]);
+        stats.waitlistSize = waitRepo.count();
+        return stats;
+    }
+
+    /**
+     * Waitlist figures for the waitlist page, in one aggregate query
+     * @param longWaitDays Entries waiting longer than this count as long waits
+     * @return waitlist summary
+     */
+    public WaitlistSummary getWaitlistSummary(int longWaitDays) {
+        LocalDate today = LocalDate.now();
+        Object[] row = waitRepo.summarize(today.minusDays(longWaitDays),
+                WaitList.priorityKey(WaitList.MAX_SCORE, today)).get(0);
+        WaitlistSummary summary = new WaitlistSummary();
+        summary.entries = count(row[0]);
+        summary.longWaits = count(row[1]);
+        summary.averagePriority = row[2] == null ? 0 : WaitList.priorityScore(((Number) row[2]).doubleValue(), today);
+        summary.roomTypes = count(row[3]);
+        return summary;
+    }
+
+    /**
+     * Students per status, from the in-process counters
+     * @return status to count
+     */
+    public long getStudentCount(StudentStatus status) {
+        return counters.getStudentCount(status);
+    }
+
+    /**
+     * Students per gender
+     * @return gender to count
+     */
+    public Map<String, Long> getGenderDistribution() {
+        return toMap(studentRepo.countByGender());
+    }
+
+    /**
+     * Students per branch
+     * @return branch to count
+     */
+    public Map<String, Long> getBranchDistribution() {
+        return toMap(studentRepo.countByBranch());
+    }
+
+    /**
+     * Newest students
+     * @param limit Maximum number of rows
+     * @return students, newest first
+     */
+    public List<StudentRow> getRecentStudents(int limit) {
+        return studentRepo.findRecentRows(PageRequest.of(0, limit));
+    }
+
+    /**
+     * Newest rooms
+     * @param limit Maximum number of rows
+     * @return rooms, newest first
+     */
+    public List<Room> getRecentRooms(int limit) {
+        return roomRepo.findAllByOrderByRoomIdDesc(PageRequest.of(0, limit));
+    }
+
+    private static long count(Object value) {
+        // SUM over an empty table is NULL
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    private static Map<String, Long> toMap(List<Object[]> rows) {
+        Map<String, Long> result = new HashMap<>();
+        for (Object[] row : rows) result.put((String) row[0], count(row[1]));
+        return result;
+    }
+
+    /**
+     * Waitlist page figures
+     */
+    public static final class WaitlistSummary {
+        private long entries;
+        private long longWaits;
+        private double averagePriority;
+        private long roomTypes;
+
+        public long getEntries() {
+            return entries;
+        }
+
+        public long getLongWaits() {
+            return longWaits;
+        }
+
+        public double getAveragePriority() {
+            return averagePriority;
+        }
+
+        public long getRoomTypes() {
+            return roomTypes;
+        }
+    }
+
+    /**
+     * Dashboard counts
+     */
+    public static final class DashboardStatistics {
+        private long totalStudents;
+        private long allocatedStudents;
+        private long waitingStudents;
+        private long totalRooms;
+        private long availableRooms;
+        private long fullRooms;
+        private long waitlistSize;
+
+        public long getTotalStudents() {
+            return totalStudents;
+        }
+
+        public long getAllocatedStudents() {
+            return allocatedStudents;
+        }
+
+        public long getWaitingStudents() {
+            return waitingStudents;
+        }
+
+        public long getTotalRooms() {
+            return totalRooms;
+        }
+
+        public long getAvailableRooms() {
+            return availableRooms;
+        }
+
+        public long getFullRooms() {
+            return fullRooms;
+        }
+
+        public long getWaitlistSize() {
+            return waitlistSize;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.CodedEnum;
+import org.example.dsa_proj.Models.RoomStatus;
+import org.example.dsa_proj.Models.RoomType;
+import org.example.dsa_proj.Models.StudentStatus;
+import org.example.dsa_proj.Models.SwapStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Status Code Migration
+ *
+ * Converts the status and type columns from the VARCHAR labels the old
+ * mapping stored ("Available", "Processing Allocation", "Double") to the
+ * SMALLINT codes of {@link RoomStatus}, {@link RoomType}, {@link StudentStatus}
+ * and {@link SwapStatus}. Runs at startup after data.sql, on H2 and
+ * PostgreSQL, and does nothing once a column is numeric. For each VARCHAR
+ * column it:
+ *
+ * - rewrites every distinct label as its code, in one transaction per
+ *   column, failing before any change if a value matches no constant
+ * - changes the column type to SMALLINT, which rebuilds its indexes
+ *
+ * It then drops the single-column indexes the old mapping declared on these
+ * columns; each is the leading column of a composite index the entities now
+ * declare, e.g. idx_room_type is covered by idx_room_type_status.
+ * idx_waitlist_room_type stays: loading a room type's whole queue through
+ * idx_waitlist_type_priority visits rows in priority order rather than
+ * storage order and measured twice as slow on H2.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+@DependsOnDatabaseInitialization
+public class StatusCodeMigration {
+
+    private static final List<CodedColumn> COLUMNS = Arrays.asList(
+            new CodedColumn("rooms", "room_type", RoomType.class),
+            new CodedColumn("rooms", "status", RoomStatus.class),
+            new CodedColumn("students", "status", StudentStatus.class),
+            new CodedColumn("wait_list", "preferred_room_type", RoomType.class),
+            new CodedColumn("room_swap_requests", "status", SwapStatus.class));
+
+    private static final List<String> SUPERSEDED_INDEXES = Arrays.asList(
+            "idx_room_status", "idx_room_type", "idx_student_status");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        boolean postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+        for (CodedColumn column : COLUMNS) {
+            if (isText(column)) migrate(column, postgres);
+        }
+        for (String index : SUPERSEDED_INDEXES) {
+            jdbcTemplate.execute("DROP INDEX IF EXISTS " + index);
+        }
+    }
+
+    private void migrate(CodedColumn column, boolean postgres) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, Short> codes = new LinkedHashMap<>();
+            for (String value : jdbcTemplate.queryForList("SELECT DISTINCT " + column.name + " FROM "
+                    + column.table + " WHERE " + column.name + " IS NOT NULL", String.class)) {
+                codes.put(value, column.code(value));
+            }
+            codes.forEach((value, code) -> jdbcTemplate.update("UPDATE " + column.table + " SET "
+                    + column.name + " = ? WHERE " + column.name + " = ?", String.valueOf(code), value));
+        });
+        // PostgreSQL has no implicit text to smallint cast; H2 casts and has no USING clause
+        jdbcTemplate.execute("ALTER TABLE " + column.table + " ALTER COLUMN " + column.name
+                + " SET DATA TYPE SMALLINT" + (postgres ? " USING " + column.name + "::smallint" : ""));
+    }
+
+    /**
+     * @return true if the column exists and still holds text
+     */
+    private boolean isText(CodedColumn column) {
+        return jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean upper = metaData.storesUpperCaseIdentifiers();
+            String t = upper ? column.table.toUpperCase(Locale.ROOT) : column.table.toLowerCase(Locale.ROOT);
+            String c = upper ? column.name.toUpperCase(Locale.ROOT) : column.name.toLowerCase(Locale.ROOT);
+            try (ResultSet rs = metaData.getColumns(connection.getCatalog(), null, t, c)) {
+                if (!rs.next()) return false;
+                int type = rs.getInt("DATA_TYPE");
+                return type == Types.VARCHAR || type == Types.CHAR || type == Types.NVARCHAR
+                        || type == Types.LONGVARCHAR;
+            }
+        });
+    }
+
+    private static final class CodedColumn {
+        final String table;
+        final String name;
+        final Class<? extends CodedEnum> type;
+
+        CodedColumn(String table, String name, Class<? extends CodedEnum> type) {
+            this.table = table;
+            this.name = name;
+            this.type = type;
+        }
+
+        /**
+         * Code for a stored value: a label, a constant name or already a code
+         * @throws IllegalStateException if the value matches no constant
+         */
+        short code(String value) {
+            for (CodedEnum constant : type.getEnumConstants()) {
+                if (constant.getLabel().equalsIgnoreCase(value.trim())
+                        || ((Enum<?>) constant).name().equalsIgnoreCase(value.trim())
+                        || String.valueOf(constant.getCode()).equals(value.trim())) {
+                    return constant.getCode();
+                }
+            }
+            throw new IllegalStateException("Cannot migrate " + table + "." + name + ": '" + value
+                    + "' is not a " + type.getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.dsa_proj.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Student Import Report
+ *
+ * Outcome of a bulk student import: rows read, imported and rejected, the
+ * number of chunks committed, and one error per rejected row with its line
+ * number in the file. Only the first errors are listed so the report stays
+ * small whatever the file size; the rejected count is always exact.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public class StudentImportReport {
+
+    private final int maxErrors;
+    private final List<RowError> errors = new ArrayList<>();
+    private long rowsRead;
+    private long imported;
+    private long rejected;
+    private int chunks;
+    private long elapsedMillis;
+
+    public StudentImportReport(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    void reject(int line, String message) {
+        rejected++;
+        if (errors.size() < maxErrors) errors.add(new RowError(line, message));
+    }
+
+    void addRead(long rows) {
+        rowsRead += rows;
+    }
+
+    void addImported(long rows) {
+        imported += rows;
+    }
+
+    void addChunk() {
+        chunks++;
+    }
+
+    void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public List<RowError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * True when more rows were rejected than are listed in {@link #getErrors()}
+     */
+    public boolean isErrorsTruncated() {
+        return rejected > errors.size();
+    }
+
+    public String getSummary() {
+        return String.format("%d of %d rows imported, %d rejected, %d chunks (%d ms)",
+                imported, rowsRead, rejected, chunks, elapsedMillis);
+    }
+
+    /**
+     * A rejected row
+     */
+    public static final class RowError {
+        private final int line;
+        private final String message;
+
+        RowError(int line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.Preference;
+import org.example.dsa_proj.Models.RoomType;
+import org.example.dsa_proj.Models.Student;
+import org.example.dsa_proj.Models.StudentStatus;
+import org.example.dsa_proj.Models.WaitList;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Student Import Service
+ *
+ * Imports a new intake from CSV: each row becomes a Student, their Preference
+ * and a WaitList entry for their preferred room type. The file is read as a
+ * stream and handled one chunk of rows at a time, so memory is bounded by the
+ * chunk size rather than the file size:
+ *
+ * - rows of a chunk are parsed and bean-validated in parallel on a pool owned
+ *   by this service
+ * - valid rows are persisted in one transaction per chunk, which the sequence
+ *   keys and hibernate.jdbc.batch_size turn into batched inserts
+ * - if a chunk fails in the database, its rows are retried one per
+ *   transaction so only the offending rows are rejected
+ *
+ * The waitlist heap, roommate candidate and interest indexes are updated as
+ * each chunk commits. The dashboard counters are re-seeded at the end and the
+ * compatibility top-K index is rebuilt in the background.
+ *
+ * Columns are matched by header name, ignoring case, spaces and underscores:
+ * name, gender, branch, year and roomTypePreference are required;
+ * preferenceType, priorityScore, studyTime, sleepTime, interests,
+ * roommateGenderPreference, noiseLevelPreference, cleanlinessLevel,
+ * guestPolicyPreference and studyGroupPreference are optional. Without a
+ * priorityScore the entry gets {@link WaitList#calculatePriorityScore()}.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+public class StudentImportService {
+
+    private static final List<String> REQUIRED_COLUMNS =
+            Arrays.asList("name", "gender", "branch", "year", "roomtypepreference");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private WaitlistEngine waitlistEngine;
+
+    @Autowired
+    private RoommateCandidateIndex candidateIndex;
+
+    @Autowired
+    private InterestIndex interestIndex;
+
+    @Autowired
+    private CompatibilityTopKIndex topKIndex;
+
+    @Autowired
+    private HostelCounters counters;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final int chunkSize;
+    private final int maxErrors;
+    private final ForkJoinPool pool;
+
+    public StudentImportService(@Value("${import.students.chunk-size:1000}") int chunkSize,
+                                @Value("${import.students.max-errors:1000}") int maxErrors,
+                                @Value("${import.students.parallelism:0}") int parallelism) {
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxErrors = Math.max(0, maxErrors);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Import every row of a CSV file
+     * @param in UTF-8 CSV with a header row; not closed
+     * @return counts and per-row errors
+     * @throws IllegalArgumentException if the file is empty or lacks a required column
+     */
+    public StudentImportReport importCsv(InputStream in) {
+        long start = System.currentTimeMillis();
+        StudentImportReport report = new StudentImportReport(maxErrors);
+        CsvReader csv = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Map<String, Integer> columns = readHeader(csv);
+
+        List<Record> chunk = new ArrayList<>(chunkSize);
+        try {
+            for (List<String> fields = csv.next(); fields != null; fields = csv.next()) {
+                if (fields.size() == 1 && fields.get(0).trim().isEmpty()) continue; // blank line
+                chunk.add(new Record(csv.getRecordLine(), fields));
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, columns, report);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        } catch (IOException e) {
+            // Malformed or truncated upload: keep what was committed and report where reading stopped
+            report.reject(csv.getRecordLine(), "Could not read the rest of the file: " + e.getMessage());
+        }
+        if (!chunk.isEmpty()) importChunk(chunk, columns, report);
+
+        if (report.getImported() > 0) {
+            counters.reconcile();
+            topKIndex.reloadAsync();
+        }
+        report.setElapsedMillis(System.currentTimeMillis() - start);
+        return report;
+    }
+
+    private Map<String, Integer> readHeader(CsvReader csv) {
+        List<String> header;
+        try {
+            header = csv.next();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read the header row: " + e.getMessage(), e);
+        }
+        if (header == null) {
+            throw new IllegalArgumentException("The file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(columnKey(header.get(i)), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream()
+                .filter(c -> !columns.containsKey(c))
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Missing required column(s): " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private void importChunk(List<Record> chunk, Map<String, Integer> columns, StudentImportReport report) {
+        Row[] rows = new Row[chunk.size()];
+        try {
+            pool.submit(() -> IntStream.range(0, rows.length).parallel()
+                    .forEach(i -> rows[i] = parse(chunk.get(i), columns))).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Student import was interrupted", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Student import validation failed: " + e.getMessage(), e);
+        }
+
+        report.addRead(rows.length);
+        List<Row> valid = new ArrayList<>(rows.length);
+        for (Row row : rows) {
+            if (row.error != null) {
+                report.reject(row.line, row.error);
+            } else {
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) return;
+
+        try {
+            write(valid);
+            report.addImported(valid.size());
+        } catch (RuntimeException chunkFailure) {
+            for (Row row : valid) {
+                try {
+                    write(Collections.singletonList(row));
+                    report.addImported(1);
+                } catch (RuntimeException e) {
+                    report.reject(row.line, rootMessage(e));
+                }
+            }
+        }
+        report.addChunk();
+    }
+
+    /**
+     * Persist rows in one transaction and update the in-memory indexes once it commits
+     */
+    private void write(List<Row> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<RoomType, Integer> added = new EnumMap<>(RoomType.class);
+            for (Row row : rows) {
+                // Keys from a rolled-back attempt must not be reused
+                row.student.setStudentId(null);
+                row.preference.setPreferenceId(null);
+                row.waitList.setWaitId(null);
+                entityManager.persist(row.student);
+                entityManager.persist(row.preference);
+                entityManager.persist(row.waitList);
+                added.merge(row.waitList.getPreferredRoomType(), 1, Integer::sum);
+            }
+            entityManager.flush();
+            entityManager.clear();
+
+            added.forEach((type, count) -> eventPublisher.publishEvent(new WaitlistChangedEvent(type, count)));
+            AfterCommit.run(() -> {
+                for (Row row : rows) {
+                    Long id = row.student.getStudentId();
+                    waitlistEngine.offer(id, row.waitList.getPreferredRoomType(), row.waitList.getPriorityKey(),
+                            row.waitList.getWaitId());
+                    candidateIndex.update(row.student);
+                    interestIndex.set(id, row.interests);
+                }
+            });
+        });
+    }
+
+    /**
+     * Build and validate the entities for one row; runs on the import pool
+     */
+    private Row parse(Record record, Map<String, Integer> columns) {
+        Row row = new Row(record.line);
+        List<String> errors = new ArrayList<>();
+
+        Student student = new Student();
+        student.setName(field(record, columns, "name"));
+        student.setGender(field(record, columns, "gender"));
+        student.setBranch(field(record, columns, "branch"));
+        String year = field(record, columns, "year");
+        try {
+            student.setYear(year == null ? 0 : Integer.parseInt(year));
+        } catch (NumberFormatException e) {
+            errors.add("Year must be a whole number");
+            student.setYear(1); // already rejected; keeps the range check from repeating it
+        }
+        student.setPreferenceType(field(record, columns, "preferencetype"));
+        String roomTypeText = field(record, columns, "roomtypepreference");
+        RoomType roomType = null;
+        try {
+            roomType = RoomType.parse(roomTypeText);
+        } catch (IllegalArgumentException e) {
+            // reported below
+        }
+        if (roomType == null) {
+            errors.add("Room type preference must be Single, Double, Triple or Quad");
+        }
+        student.setRoomTypePreference(roomType != null ? roomType.getLabel() : roomTypeText);
+        student.setStatus(StudentStatus.WAITING);
+
+        Preference preference = new Preference();
+        preference.setStudent(student);
+        preference.setStudyTime(field(record, columns, "studytime"));
+        preference.setSleepTime(field(record, columns, "sleeptime"));
+        preference.setInterests(field(record, columns, "interests"));
+        preference.setRoommateGenderPreference(field(record, columns, "roommategenderpreference"));
+        preference.setNoiseLevelPreference(field(record, columns, "noiselevelpreference"));
+        preference.setCleanlinessLevel(field(record, columns, "cleanlinesslevel"));
+        preference.setGuestPolicyPreference(field(record, columns, "guestpolicypreference"));
+        preference.setStudyGroupPreference(field(record, columns, "studygrouppreference"));
+
+        WaitList waitList = new WaitList();
+        waitList.setStudent(student);
+        waitList.setPreferredRoomType(roomType);
+        waitList.setWaitingSince(LocalDate.now());
+        String score = field(record, columns, "priorityscore");
+        if (score == null) {
+            waitList.calculatePriorityScore();
+        } else {
+            try {
+                double value = Double.parseDouble(score);
+                if (value < 0 || value > WaitList.MAX_SCORE) {
+                    errors.add("Priority score must be between 0 and 100");
+                } else {
+                    waitList.setPriorityScore(value);
+                }
+            } catch (NumberFormatException e) {
+                errors.add("Priority score must be a number");
+            }
+        }
+
+        addViolations(errors, validator.validate(student));
+        addViolations(errors, validator.validate(preference));
+        addViolations(errors, validator.validate(waitList));
+        if (!errors.isEmpty()) {
+            row.error = String.join("; ", errors);
+            return row;
+        }
+        row.student = student;
+        row.preference = preference;
+        row.waitList = waitList;
+        row.interests = InterestTokenizer.tokenize(preference.getInterests());
+        return row;
+    }
+
+    private static <T> void addViolations(List<String> errors, Set<ConstraintViolation<T>> violations) {
+        violations.stream()
+                .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .forEach(v -> errors.add(v.getMessage()));
+    }
+
+    /**
+     * @return trimmed value of a column, or null when absent or blank
+     */
+    private static String field(Record record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.fields.size()) return null;
+        String value = record.fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * "Room Type Preference", "room_type_preference" and "roomTypePreference" all match
+     */
+    private static String columnKey(String header) {
+        return header.replace("\uFEFF", "").replaceAll("[\\s_-]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) root = root.getCause();
+        return root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+    }
+
+    private static final class Record {
+        final int line;
+        final List<String> fields;
+
+        Record(int line, List<String> fields) {
+            this.line = line;
+            this.fields = fields;
+        }
+    }
+
+    private static final class Row {
+        final int line;
+        String error;
+        Student student;
+        Preference preference;
+        WaitList waitList;
+        List<String> interests;
+
+        Row(int line) {
+            this.line = line;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package org.example.dsa_proj.Service;
 
 import org.example.dsa_proj.Models.Student;
+import org.example.dsa_proj.Models.StudentRow;
+import org.example.dsa_proj.Models.StudentStatus;
 import org.example.dsa_proj.Models.Preference;
 import org.example.dsa_proj.Rep.StudentRepo;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +31,21 @@ public class StudentService {
     @Autowired
     private StudentRepo studentRepo;
 
+    @Autowired
+    private RoommateCandidateIndex candidateIndex;
+
+    @Autowired
+    private CompatibilityTopKIndex topKIndex;
+
+    @Autowired
+    private InterestIndex interestIndex;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Retrieve all students from the database
      * @return List of all students
@@ -35,6 +54,21 @@ public class StudentService {
         return studentRepo.findAll();
     }
 
+    /**
+     * One keyset page of students in ID order
+     * @param afterId Last student ID of the previous page, null for the first page
+     * @param status Status filter, null for any
+     * @param roomType Preferred room type filter, blank for any
+     * @param block Hostel block of the allocated room, blank for any
+     * @param size Page size
+     * @return listing rows of the page and whether more follow
+     */
+    @Transactional(readOnly = true)
+    public Slice<StudentRow> getStudentPage(Long afterId, StudentStatus status, String roomType, String block, int size) {
+        return studentRepo.findPageAfter(afterId == null ? 0 : afterId, status,
+                KeysetPages.filter(roomType), KeysetPages.filter(block), KeysetPages.limit(size));
+    }
+
     /**
      * Find a student by their unique ID
      * @param id Student ID
@@ -45,7 +79,8 @@ public class StudentService {
     }
 
     /**
-     * Save or update a student record
+     * Save or update a student record. Publishes a StudentStatusChangedEvent when
+     * the student is new or their status or allocation differs from the stored row.
      * @param student Student entity to save
      * @return Saved student entity
      * @throws IllegalArgumentException if student data is invalid
@@ -54,7 +89,19 @@ public class StudentService {
         if (student == null) {
             throw new IllegalArgumentException("Student cannot be null");
         }
-        return studentRepo.save(student);
+        List<Object[]> stored = student.getStudentId() == null
+                ? Collections.emptyList() : studentRepo.findStoredState(student.getStudentId());
+        StudentStatus previousStatus = stored.isEmpty() ? null : (StudentStatus) stored.get(0)[0];
+        boolean previouslyAllocated = previousStatus == StudentStatus.ALLOCATED && stored.get(0)[1] != null;
+
+        Student saved = studentRepo.save(student);
+        if (stored.isEmpty() || previousStatus != saved.getStatus() || previouslyAllocated != saved.isAllocated()) {
+            eventPublisher.publishEvent(new StudentStatusChangedEvent(saved.getStudentId(),
+                    previousStatus, saved.getStatus(), previouslyAllocated, saved.isAllocated()));
+        }
+        candidateIndex.updateAfterCommit(saved);
+        topKIndex.refreshAfterCommit(Collections.singletonList(saved.getStudentId()));
+        return saved;
     }
 
     /**
@@ -63,10 +110,14 @@ public class StudentService {
      * @throws IllegalArgumentException if student not found
      */
     public void deleteStudent(Long id) {
-        if (!studentRepo.existsById(id)) {
-            throw new IllegalArgumentException("Student with ID " + id + " not found");
-        }
-        studentRepo.deleteById(id);
+        Student student = studentRepo.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Student with ID " + id + " not found"));
+        studentRepo.delete(student);
+        eventPublisher.publishEvent(new StudentStatusChangedEvent(id,
+                student.getStatus(), null, student.isAllocated(), false));
+        candidateIndex.removeAfterCommit(Collections.singletonList(id));
+        topKIndex.removeAfterCommit(Collections.singletonList(id));
+        interestIndex.removeAfterCommit(Collections.singletonList(id));
     }
 
     /**
@@ -74,7 +125,7 @@ public class StudentService {
      * @param status Student status (Allocated, Waiting, Left, etc.)
      * @return List of students with the specified status
      */
-    public List<Student> getStudentsByStatus(String status) {
+    public List<Student> getStudentsByStatus(StudentStatus status) {
         return studentRepo.findByStatus(status);
     }
 
@@ -137,21 +188,41 @@ public class StudentService {
 
     /**
      * Find the most compatible roommates for a given student
+     *
+     * Only waiting students are considered; candidates come from the resident
+     * {@link RoommateCandidateIndex} instead of a scan of the students table.
+     *
      * @param student Target student
      * @param maxResults Maximum number of compatible students to return
      * @return List of students sorted by compatibility score (highest first)
      */
     public List<Student> findCompatibleRoommates(Student student, int maxResults) {
-        List<Student> allStudents = getAllStudents();
-        
-        return allStudents.stream()
-                .filter(s -> !s.equals(student)) // Exclude the student themselves
-                .filter(Student::isWaiting) // Only consider students waiting for allocation
-                .map(s -> new AbstractMap.SimpleEntry<>(s, calculateCompatibility(student, s)))
-                .sorted((e1, e2) -> Integer.compare(e2.getValue(), e1.getValue())) // Sort by score descending
-                .limit(maxResults)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
+        return loadInOrder(candidateIndex.findTop(student, maxResults));
+    }
+
+    /**
+     * Find the most compatible roommates for several students in one call
+     * @param students Target students
+     * @param maxResults Maximum number of compatible students per target
+     * @return Candidates per target student ID, highest compatibility first
+     */
+    public Map<Long, List<Student>> findCompatibleRoommates(Collection<Student> students, int maxResults) {
+        Map<Long, List<Long>> candidateIds = candidateIndex.findTop(students, maxResults);
+        Set<Long> allIds = new HashSet<>();
+        candidateIds.values().forEach(allIds::addAll);
+        Map<Long, Student> byId = studentRepo.findAllById(allIds).stream()
+                .collect(Collectors.toMap(Student::getStudentId, s -> s));
+
+        Map<Long, List<Student>> result = new LinkedHashMap<>();
+        candidateIds.forEach((studentId, ids) -> result.put(studentId, ids.stream()
+                .map(byId::get).filter(Objects::nonNull).collect(Collectors.toList())));
+        return result;
+    }
+
+    private List<Student> loadInOrder(List<Long> ids) {
+        Map<Long, Student> byId = studentRepo.findAllById(ids).stream()
+                .collect(Collectors.toMap(Student::getStudentId, s -> s));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
     }
 
     /**
@@ -173,7 +244,7 @@ public class StudentService {
         }
 
         // Update student status to indicate processing
-        student.setStatus("Processing Allocation");
+        student.setStatus(StudentStatus.PROCESSING_ALLOCATION);
         student.setRoomTypePreference(roomType);
         saveStudent(student);
 
@@ -186,22 +257,14 @@ public class StudentService {
      * @return Map containing various statistics
      */
     public Map<String, Object> getStudentStatistics() {
-        List<Student> allStudents = getAllStudents();
-        
+        StatisticsService.DashboardStatistics counts = statisticsService.getDashboardStatistics();
+
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalStudents", allStudents.size());
-        stats.put("allocatedStudents", allStudents.stream().mapToInt(s -> s.isAllocated() ? 1 : 0).sum());
-        stats.put("waitingStudents", allStudents.stream().mapToInt(s -> s.isWaiting() ? 1 : 0).sum());
-        
-        // Gender distribution
-        Map<String, Long> genderDistribution = allStudents.stream()
-                .collect(Collectors.groupingBy(Student::getGender, Collectors.counting()));
-        stats.put("genderDistribution", genderDistribution);
-        
-        // Branch distribution  
-        Map<String, Long> branchDistribution = allStudents.stream()
-                .collect(Collectors.groupingBy(Student::getBranch, Collectors.counting()));
-        stats.put("branchDistribution", branchDistribution);
+        stats.put("totalStudents", counts.getTotalStudents());
+        stats.put("allocatedStudents", counts.getAllocatedStudents());
+        stats.put("waitingStudents", counts.getWaitingStudents());
+        stats.put("genderDistribution", statisticsService.getGenderDistribution());
+        stats.put("branchDistribution", statisticsService.getBranchDistribution());
         
         return stats;
     }
@@ -256,7 +319,7 @@ public class StudentService {
 
         // Note: This is a simplified allocation - in a real system, you'd fetch the Room entity
         // For now, just update the status
-        student.setStatus("Allocated");
+        student.setStatus(StudentStatus.ALLOCATED);
         save(student);
     }
 }
@@ -0,0 +1,58 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.StudentStatus;
+
+/**
+ * Student Status Changed Event
+ *
+ * Published when a student is assigned to or removed from a room, leaves,
+ * is registered or is deleted. A null status means the student did not exist
+ * before (registration) or no longer exists (deletion).
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public class StudentStatusChangedEvent {
+
+    private final Long studentId;
+    private final StudentStatus previousStatus;
+    private final StudentStatus status;
+    private final boolean previouslyAllocated;
+    private final boolean allocated;
+
+    /**
+     * @param studentId Student ID
+     * @param previousStatus Status before, null for a new student
+     * @param status Status after, null for a deleted student
+     * @param previouslyAllocated Student.isAllocated before
+     * @param allocated Student.isAllocated after
+     */
+    public StudentStatusChangedEvent(Long studentId, StudentStatus previousStatus, StudentStatus status,
+                                     boolean previouslyAllocated, boolean allocated) {
+        this.studentId = studentId;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.previouslyAllocated = previouslyAllocated;
+        this.allocated = allocated;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public StudentStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public StudentStatus getStatus() {
+        return status;
+    }
+
+    public boolean isPreviouslyAllocated() {
+        return previouslyAllocated;
+    }
+
+    public boolean isAllocated() {
+        return allocated;
+    }
+}
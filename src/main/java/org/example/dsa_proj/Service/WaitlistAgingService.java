@@ -0,0 +1,99 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.RoomType;
+import org.example.dsa_proj.Models.WaitList;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Waitlist Aging Service
+ *
+ * Recomputes every stored priority key with the formula of
+ * {@link WaitList#calculatePriorityScore()} (base score, seniority bonus,
+ * one point per week from waitingSince). Keys are time-invariant, so waiting
+ * time alone never calls for a run; it resets scores set by hand and picks up
+ * changes to a student's year. Runs from the admin dashboard, and on
+ * waitlist.aging.cron when one is configured.
+ *
+ * Each room type is one set-based UPDATE in its own short transaction, with
+ * the student's year read by a correlated subquery; no entities are loaded,
+ * so the cost is a single statement per room type whatever the queue length.
+ * The in-memory {@link WaitlistEngine} is reloaded once all chunks commit.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+public class WaitlistAgingService {
+
+    // Parameters: base score, senior year, senior bonus, days per point; {days} is the
+    // dialect's whole-day difference between WaitList.AGING_EPOCH and waiting_since.
+    // Scores are cast to DOUBLE PRECISION to match the Java formula; H2 would otherwise
+    // compute decimal literals in 7-digit DECFLOAT and type the divisor from {days}.
+    private static final String AGE_SQL =
+            "UPDATE wait_list SET priority_key = CAST(? AS DOUBLE PRECISION) + CASE WHEN EXISTS ("
+            + "SELECT 1 FROM students s WHERE s.student_id = wait_list.student_id AND s.\"year\" >= ?) "
+            + "THEN CAST(? AS DOUBLE PRECISION) ELSE 0 END - {days} / CAST(? AS DOUBLE PRECISION) WHERE ";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private WaitlistEngine waitlistEngine;
+
+    private volatile BatchWriteReport lastReport;
+
+    /**
+     * Recompute every waitlist priority key from the formula
+     * @return rows updated per room type chunk and elapsed time
+     */
+    @Scheduled(cron = "${waitlist.aging.cron:-}")
+    public BatchWriteReport ageScores() {
+        long start = System.currentTimeMillis();
+        String sql = ageSql();
+        BatchWriteReport report = new BatchWriteReport();
+        for (RoomType type : RoomType.values()) {
+            record(report, transactionTemplate.execute(status -> jdbcTemplate.update(
+                    sql + "preferred_room_type = ?", WaitList.BASE_SCORE, WaitList.SENIOR_YEAR,
+                    WaitList.SENIOR_BONUS, WaitList.DAYS_PER_POINT, type.getCode())));
+        }
+        // Entries without a preferred room type
+        record(report, transactionTemplate.execute(status -> jdbcTemplate.update(
+                sql + "preferred_room_type IS NULL", WaitList.BASE_SCORE, WaitList.SENIOR_YEAR,
+                WaitList.SENIOR_BONUS, WaitList.DAYS_PER_POINT)));
+        waitlistEngine.reload();
+        report.setElapsedMillis(System.currentTimeMillis() - start);
+        lastReport = report;
+        return report;
+    }
+
+    /**
+     * @return the report of the most recent run, or null before the first one
+     */
+    public BatchWriteReport getLastReport() {
+        return lastReport;
+    }
+
+    private static void record(BatchWriteReport report, Integer rows) {
+        report.record("wait_list", new int[][] {{rows == null ? 0 : rows}});
+    }
+
+    /**
+     * PostgreSQL subtracts dates to whole days; H2 needs DATEDIFF
+     */
+    private String ageSql() {
+        boolean postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+        String epoch = "DATE '" + WaitList.AGING_EPOCH + "'";
+        return AGE_SQL.replace("{days}", postgres
+                ? "(waiting_since - " + epoch + ")"
+                : "DATEDIFF(DAY, " + epoch + ", waiting_since)");
+    }
+}
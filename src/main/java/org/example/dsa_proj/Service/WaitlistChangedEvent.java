@@ -0,0 +1,35 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.RoomType;
+
+/**
+ * Waitlist Changed Event
+ *
+ * Published by waitlistservice when entries for a room type are added or
+ * removed.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public class WaitlistChangedEvent {
+
+    private final RoomType roomType;
+    private final int change;
+
+    /**
+     * @param roomType Preferred room type of the entries
+     * @param change Entries added (positive) or removed (negative)
+     */
+    public WaitlistChangedEvent(RoomType roomType, int change) {
+        this.roomType = roomType;
+        this.change = change;
+    }
+
+    public RoomType getRoomType() {
+        return roomType;
+    }
+
+    public int getChange() {
+        return change;
+    }
+}
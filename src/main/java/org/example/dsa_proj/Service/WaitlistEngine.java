@@ -0,0 +1,261 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.RoomType;
+import org.example.dsa_proj.Models.WaitList;
+import org.example.dsa_proj.Rep.waitlist;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Waitlist Engine
+ *
+ * Resident copy of the waitlist: one {@link WaitlistHeap} per room type, loaded
+ * once when the application is ready and kept in sync by waitlistservice.
+ * Allocation reads its candidates from here instead of re-querying wait_list.
+ * Heaps are ordered by the stored priority key ({@link WaitList}), which orders
+ * entries the same as today's score and does not change as they wait, then by
+ * wait_list entry ID, the same order as waitlistservice.getPage. A
+ * {@link WaitlistRankIndex} per room type mirrors each heap to answer a
+ * student's position in the queue in O(log n).
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+public class WaitlistEngine {
+
+    @Autowired
+    private waitlist waitRepo;
+
+    private Queues queues = new Queues();
+    // Changes applied since the oldest running reload queried its rows; null when none is running
+    private List<Consumer<Queues>> changesDuringReload;
+    private int reloadsRunning;
+
+    /**
+     * Load every waitlist entry into fresh heaps (runs after data.sql).
+     * The query and the build run without the lock; changes made meanwhile
+     * are replayed onto the new heaps before they replace the old ones.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        synchronized (this) {
+            if (reloadsRunning++ == 0) changesDuringReload = new ArrayList<>();
+        }
+        try {
+            Queues fresh = new Queues();
+            for (Object[] row : waitRepo.findAllQueueEntries()) {
+                fresh.offer((Long) row[0], (RoomType) row[1], ((Number) row[2]).doubleValue(), (Long) row[3]);
+            }
+            synchronized (this) {
+                for (Consumer<Queues> change : changesDuringReload) change.accept(fresh);
+                queues = fresh;
+            }
+        } finally {
+            synchronized (this) {
+                if (--reloadsRunning == 0) changesDuringReload = null;
+            }
+        }
+    }
+
+    /**
+     * Queue a student, moving them if they were queued under another room type
+     * @param studentId Student ID
+     * @param roomType Preferred room type
+     * @param priorityKey Stored priority key
+     * @param waitId Wait list entry ID, the tie-break among equal keys
+     */
+    public synchronized void offer(Long studentId, RoomType roomType, double priorityKey, Long waitId) {
+        apply(q -> q.offer(studentId, roomType, priorityKey, waitId));
+    }
+
+    /**
+     * Queue a student once the current transaction commits, or immediately
+     * when no transaction is active
+     */
+    public void offerAfterCommit(Long studentId, RoomType roomType, double priorityKey, Long waitId) {
+        AfterCommit.run(() -> offer(studentId, roomType, priorityKey, waitId));
+    }
+
+    /**
+     * Remove a student from whichever heap holds them
+     * @param studentId Student ID
+     * @return true if the student was queued
+     */
+    public synchronized boolean remove(Long studentId) {
+        boolean removed = queues.remove(studentId);
+        record(q -> q.remove(studentId));
+        return removed;
+    }
+
+    /**
+     * Remove students once the current transaction commits, or immediately
+     * when no transaction is active
+     * @param studentIds Student IDs to remove
+     */
+    public void removeAfterCommit(Collection<Long> studentIds) {
+        List<Long> ids = new ArrayList<>(studentIds);
+        AfterCommit.run(() -> removeAll(ids));
+    }
+
+    public synchronized void removeAll(Collection<Long> studentIds) {
+        for (Long id : studentIds) remove(id);
+    }
+
+    /**
+     * Change a queued student's priority
+     * @param studentId Student ID
+     * @param priorityKey New priority key
+     * @return true if the student was queued
+     */
+    public synchronized boolean updatePriority(Long studentId, double priorityKey) {
+        boolean updated = queues.updatePriority(studentId, priorityKey);
+        record(q -> q.updatePriority(studentId, priorityKey));
+        return updated;
+    }
+
+    /**
+     * Change a queued student's priority once the current transaction commits,
+     * or immediately when no transaction is active
+     */
+    public void updatePriorityAfterCommit(Long studentId, double priorityKey) {
+        AfterCommit.run(() -> updatePriority(studentId, priorityKey));
+    }
+
+    /**
+     * Top candidates for a room type without removing them
+     * @param roomType Room type
+     * @param limit Maximum number of students
+     * @return student IDs, highest priority first
+     */
+    public synchronized List<Long> peekTop(RoomType roomType, int limit) {
+        WaitlistHeap heap = queues.heaps.get(roomType);
+        return heap == null ? new ArrayList<>() : heap.peekTop(limit);
+    }
+
+    /**
+     * Remove and return the top candidates for a room type
+     * @param roomType Room type
+     * @param limit Maximum number of students
+     * @return student IDs, highest priority first
+     */
+    public synchronized List<Long> pollTop(RoomType roomType, int limit) {
+        List<Long> result = new ArrayList<>();
+        WaitlistHeap heap = queues.heaps.get(roomType);
+        while (heap != null && result.size() < limit && !heap.isEmpty()) {
+            Long id = heap.poll();
+            queues.ranks.get(roomType).remove(id);
+            queues.roomTypeByStudent.remove(id);
+            result.add(id);
+        }
+        record(q -> result.forEach(q::remove));
+        return result;
+    }
+
+    public synchronized int size(RoomType roomType) {
+        WaitlistHeap heap = queues.heaps.get(roomType);
+        return heap == null ? 0 : heap.size();
+    }
+
+    /**
+     * Room type a student is queued under
+     * @param studentId Student ID
+     * @return preferred room type, or null when not queued
+     */
+    public synchronized RoomType getRoomType(Long studentId) {
+        return queues.roomTypeByStudent.get(studentId);
+    }
+
+    public synchronized boolean contains(Long studentId) {
+        return queues.roomTypeByStudent.containsKey(studentId);
+    }
+
+    /**
+     * A student's place in the queue for their room type
+     * @param studentId Student ID
+     * @return position and queue length, or null when not queued
+     */
+    public synchronized Position getPosition(Long studentId) {
+        RoomType roomType = queues.roomTypeByStudent.get(studentId);
+        if (roomType == null) return null;
+        return new Position(roomType, queues.ranks.get(roomType).rank(studentId), queues.heaps.get(roomType).size());
+    }
+
+    private void apply(Consumer<Queues> change) {
+        change.accept(queues);
+        record(change);
+    }
+
+    private void record(Consumer<Queues> change) {
+        if (changesDuringReload != null) changesDuringReload.add(change);
+    }
+
+    /**
+     * One heap and rank index per room type, and the room type of each queued student
+     */
+    private static final class Queues {
+        final Map<RoomType, WaitlistHeap> heaps = new EnumMap<>(RoomType.class);
+        final Map<RoomType, WaitlistRankIndex> ranks = new EnumMap<>(RoomType.class);
+        final Map<Long, RoomType> roomTypeByStudent = new HashMap<>();
+
+        void offer(Long studentId, RoomType roomType, double priorityKey, long waitId) {
+            RoomType current = roomTypeByStudent.get(studentId);
+            if (current != null && current != roomType) {
+                heaps.get(current).remove(studentId);
+                ranks.get(current).remove(studentId);
+            }
+            heaps.computeIfAbsent(roomType, t -> new WaitlistHeap()).offer(studentId, priorityKey, waitId);
+            ranks.computeIfAbsent(roomType, t -> new WaitlistRankIndex()).put(studentId, priorityKey, waitId);
+            roomTypeByStudent.put(studentId, roomType);
+        }
+
+        boolean remove(Long studentId) {
+            RoomType roomType = roomTypeByStudent.remove(studentId);
+            if (roomType == null) return false;
+            ranks.get(roomType).remove(studentId);
+            return heaps.get(roomType).remove(studentId);
+        }
+
+        boolean updatePriority(Long studentId, double priorityKey) {
+            RoomType roomType = roomTypeByStudent.get(studentId);
+            if (roomType == null || !heaps.get(roomType).updatePriority(studentId, priorityKey)) return false;
+            ranks.get(roomType).updatePriority(studentId, priorityKey);
+            return true;
+        }
+    }
+
+    /**
+     * Queue position of one student
+     */
+    public static final class Position {
+        private final RoomType roomType;
+        private final int position;
+        private final int queueLength;
+
+        Position(RoomType roomType, int position, int queueLength) {
+            this.roomType = roomType;
+            this.position = position;
+            this.queueLength = queueLength;
+        }
+
+        public RoomType getRoomType() {
+            return roomType;
+        }
+
+        /**
+         * @return 1 for the next student to be allocated
+         */
+        public int getPosition() {
+            return position;
+        }
+
+        public int getQueueLength() {
+            return queueLength;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package org.example.dsa_proj.Service;
+
+import java.util.*;
+
+/**
+ * Waitlist Heap
+ *
+ * Indexed binary max-heap of student IDs ordered by priority score. A position
+ * index from student ID to heap slot gives O(log n) insert, remove and priority
+ * update, and O(1) lookup of a student's score. Ties are broken by the lower
+ * tie-break value, the wait_list entry ID, so the heap serves students in the
+ * same order as the keyset listing (priority key descending, then entry ID).
+ *
+ * Not thread-safe; {@link WaitlistEngine} guards access.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public class WaitlistHeap {
+
+    private long[] ids = new long[16];
+    private double[] scores = new double[16];
+    private long[] ties = new long[16];
+    private int size;
+    private final Map<Long, Integer> positions = new HashMap<>();
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(long studentId) {
+        return positions.containsKey(studentId);
+    }
+
+    /**
+     * Insert a student, or update the score and tie-break if already present
+     * @param studentId Student ID
+     * @param score Priority score
+     * @param tie Tie-break among equal scores, lower first (the wait_list entry ID)
+     */
+    public void offer(long studentId, double score, long tie) {
+        remove(studentId);
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            scores = Arrays.copyOf(scores, size * 2);
+            ties = Arrays.copyOf(ties, size * 2);
+        }
+        ids[size] = studentId;
+        scores[size] = score;
+        ties[size] = tie;
+        positions.put(studentId, size);
+        siftUp(size++);
+    }
+
+    /**
+     * Change the priority of a queued student, keeping their tie-break
+     * @param studentId Student ID
+     * @param score New priority score
+     * @return true if the student was queued
+     */
+    public boolean updatePriority(long studentId, double score) {
+        Integer i = positions.get(studentId);
+        if (i == null) return false;
+        double old = scores[i];
+        scores[i] = score;
+        if (score > old) siftUp(i);
+        else siftDown(i);
+        return true;
+    }
+
+    /**
+     * Remove a student from anywhere in the heap
+     * @param studentId Student ID
+     * @return true if the student was queued
+     */
+    public boolean remove(long studentId) {
+        Integer i = positions.remove(studentId);
+        if (i == null) return false;
+        int last = --size;
+        if (i != last) {
+            move(last, i);
+            siftDown(i);
+            siftUp(i);
+        }
+        return true;
+    }
+
+    /**
+     * Remove and return the highest-priority student
+     * @return student ID, or null if empty
+     */
+    public Long poll() {
+        if (size == 0) return null;
+        long top = ids[0];
+        remove(top);
+        return top;
+    }
+
+    public Long peek() {
+        return size == 0 ? null : ids[0];
+    }
+
+    /**
+     * Get a student's current priority score
+     * @param studentId Student ID
+     * @return score, or null if not queued
+     */
+    public Double getScore(long studentId) {
+        Integer i = positions.get(studentId);
+        return i == null ? null : scores[i];
+    }
+
+    /**
+     * List the top students in priority order without modifying the heap.
+     * Walks the heap with a frontier queue, so cost is O(k log k).
+     * @param limit Maximum number of students
+     * @return student IDs, highest priority first
+     */
+    public List<Long> peekTop(int limit) {
+        List<Long> result = new ArrayList<>(Math.min(limit, size));
+        if (size == 0 || limit <= 0) return result;
+        PriorityQueue<Integer> frontier = new PriorityQueue<>((a, b) -> higher(a, b) ? -1 : 1);
+        frontier.add(0);
+        while (!frontier.isEmpty() && result.size() < limit) {
+            int i = frontier.poll();
+            result.add(ids[i]);
+            int left = 2 * i + 1;
+            if (left < size) frontier.add(left);
+            if (left + 1 < size) frontier.add(left + 1);
+        }
+        return result;
+    }
+
+    private boolean higher(int a, int b) {
+        if (scores[a] != scores[b]) return scores[a] > scores[b];
+        if (ties[a] != ties[b]) return ties[a] < ties[b];
+        return ids[a] < ids[b];
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!higher(i, parent)) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) break;
+            int best = left;
+            if (left + 1 < size && higher(left + 1, left)) best = left + 1;
+            if (!higher(best, i)) break;
+            swap(i, best);
+            i = best;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a];
+        double score = scores[a];
+        long tie = ties[a];
+        ids[a] = ids[b];
+        scores[a] = scores[b];
+        ties[a] = ties[b];
+        ids[b] = id;
+        scores[b] = score;
+        ties[b] = tie;
+        positions.put(ids[a], a);
+        positions.put(ids[b], b);
+    }
+
+    private void move(int from, int to) {
+        ids[to] = ids[from];
+        scores[to] = scores[from];
+        ties[to] = ties[from];
+        positions.put(ids[to], to);
+    }
+}
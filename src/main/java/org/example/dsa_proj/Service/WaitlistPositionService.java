@@ -0,0 +1,123 @@
+package org.example.dsa_proj.Service;
+
+import org.example.dsa_proj.Models.RoomType;
+import org.example.dsa_proj.Rep.AllocHistRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Waitlist Position Service
+ *
+ * Answers "where am I on the list?" for one student: their position in the
+ * queue for their room type from {@link WaitlistEngine} (O(log n), no
+ * database access) and an estimated wait from how fast beds of that type
+ * have been freeing up. The rate is deallocations recorded in
+ * AllocationHistory over the last waitlist.eta.window-days days, refreshed
+ * in the background rather than per request, so a lookup never queries.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+@Service
+public class WaitlistPositionService {
+
+    @Autowired
+    private WaitlistEngine waitlistEngine;
+
+    @Autowired
+    private AllocHistRepo historyRepo;
+
+    @Value("${waitlist.eta.window-days:90}")
+    private int windowDays;
+
+    private volatile Map<RoomType, Double> bedsFreedPerDay = new EnumMap<>(RoomType.class);
+
+    /**
+     * Recount recent deallocations per room type
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${waitlist.eta.refresh-interval-ms:600000}",
+               initialDelayString = "${waitlist.eta.refresh-interval-ms:600000}")
+    public void refreshRates() {
+        Map<RoomType, Double> rates = new EnumMap<>(RoomType.class);
+        for (Object[] row : historyRepo.countDeallocationsByRoomTypeSince(LocalDate.now().minusDays(windowDays))) {
+            if (row[0] != null) rates.put((RoomType) row[0], ((Number) row[1]).doubleValue() / windowDays);
+        }
+        bedsFreedPerDay = rates;
+    }
+
+    /**
+     * Queue position and estimated wait for a student
+     * @param studentId Student ID
+     * @return estimate, or null when the student is not on the waitlist
+     */
+    public Estimate estimate(Long studentId) {
+        WaitlistEngine.Position position = waitlistEngine.getPosition(studentId);
+        if (position == null) return null;
+        double perDay = bedsFreedPerDay.getOrDefault(position.getRoomType(), 0.0);
+        Integer days = perDay > 0 ? (int) Math.ceil(position.getPosition() / perDay) : null;
+        return new Estimate(studentId, position, Math.round(perDay * 70) / 10.0, days,
+                days == null ? null : LocalDate.now().plusDays(days));
+    }
+
+    /**
+     * Position in the queue with the estimated wait; the estimate fields are
+     * null when no bed of the room type was freed during the window
+     */
+    public static final class Estimate {
+        private final Long studentId;
+        private final RoomType roomType;
+        private final int position;
+        private final int queueLength;
+        private final double bedsFreedPerWeek;
+        private final Integer estimatedWaitDays;
+        private final LocalDate estimatedDate;
+
+        Estimate(Long studentId, WaitlistEngine.Position position, double bedsFreedPerWeek,
+                 Integer estimatedWaitDays, LocalDate estimatedDate) {
+            this.studentId = studentId;
+            this.roomType = position.getRoomType();
+            this.position = position.getPosition();
+            this.queueLength = position.getQueueLength();
+            this.bedsFreedPerWeek = bedsFreedPerWeek;
+            this.estimatedWaitDays = estimatedWaitDays;
+            this.estimatedDate = estimatedDate;
+        }
+
+        public Long getStudentId() {
+            return studentId;
+        }
+
+        public RoomType getRoomType() {
+            return roomType;
+        }
+
+        public int getPosition() {
+            return position;
+        }
+
+        public int getQueueLength() {
+            return queueLength;
+        }
+
+        public double getBedsFreedPerWeek() {
+            return bedsFreedPerWeek;
+        }
+
+        public Integer getEstimatedWaitDays() {
+            return estimatedWaitDays;
+        }
+
+        public LocalDate getEstimatedDate() {
+            return estimatedDate;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package org.example.dsa_proj.Service;
+
+import java.util.*;
+
+/**
+ * Waitlist Rank Index
+ *
+ * Indexed skip list of student IDs in queue order (priority key descending,
+ * then the lower tie-break, the wait_list entry ID: the same order as
+ * {@link WaitlistHeap} and the keyset listing).
+ * Every forward link records how many entries it skips, so a student's
+ * position is the sum of the spans walked to reach them: O(log n) expected
+ * for insert, remove, priority change and position lookup, where the heap
+ * alone would need a scan of the whole queue.
+ *
+ * Not thread-safe; {@link WaitlistEngine} guards access.
+ *
+ * @author DSA Project Team
+ * @version 1.0
+ */
+public class WaitlistRankIndex {
+
+    private static final int MAX_LEVEL = 32;
+
+    private final Node head = new Node(0, 0, 0, MAX_LEVEL);
+    private final Map<Long, Node> nodes = new HashMap<>();
+    // Fixed seed: the same inserts always build the same list
+    private final Random random = new Random(42);
+    private int level = 1;
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public boolean contains(long studentId) {
+        return nodes.containsKey(studentId);
+    }
+
+    /**
+     * Insert a student, or move them if their priority key or tie-break changed
+     * @param studentId Student ID
+     * @param priorityKey Priority key
+     * @param tie Tie-break among equal keys, lower first (the wait_list entry ID)
+     */
+    public void put(long studentId, double priorityKey, long tie) {
+        Node existing = nodes.get(studentId);
+        if (existing != null) {
+            if (existing.key == priorityKey && existing.tie == tie) return;
+            unlink(existing);
+        }
+        insert(studentId, priorityKey, tie);
+    }
+
+    /**
+     * Move a student to a new priority key, keeping their tie-break
+     * @return true if the student was indexed
+     */
+    public boolean updatePriority(long studentId, double priorityKey) {
+        Node existing = nodes.get(studentId);
+        if (existing == null) return false;
+        put(studentId, priorityKey, existing.tie);
+        return true;
+    }
+
+    /**
+     * @return true if the student was indexed
+     */
+    public boolean remove(long studentId) {
+        Node node = nodes.get(studentId);
+        if (node == null) return false;
+        unlink(node);
+        return true;
+    }
+
+    /**
+     * Position in the queue
+     * @param studentId Student ID
+     * @return 1 for the head of the queue, or 0 if not indexed
+     */
+    public int rank(long studentId) {
+        Node target = nodes.get(studentId);
+        if (target == null) return 0;
+        int rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && (x.next[i] == target || precedes(x.next[i], target.key, target.tie, target.id))) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x == target) return rank;
+        }
+        throw new IllegalStateException("Student " + studentId + " is indexed but not linked");
+    }
+
+    public void clear() {
+        Arrays.fill(head.next, null);
+        Arrays.fill(head.span, 0);
+        nodes.clear();
+        level = 1;
+    }
+
+    private void insert(long studentId, double priorityKey, long tie) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && precedes(x.next[i], priorityKey, tie, studentId)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            // A link to the end spans every remaining entry
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = nodes.size();
+            }
+            level = nodeLevel;
+        }
+        Node node = new Node(priorityKey, tie, studentId, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        nodes.put(studentId, node);
+    }
+
+    private void unlink(Node target) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && precedes(x.next[i], target.key, target.tie, target.id)) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == target) {
+                update[i].span[i] += target.span[i] - 1;
+                update[i].next[i] = target.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) level--;
+        nodes.remove(target.id);
+    }
+
+    /**
+     * @return true if the node comes before (key, tie, id) in queue order
+     */
+    private static boolean precedes(Node node, double key, long tie, long id) {
+        if (node.key != key) return node.key > key;
+        if (node.tie != tie) return node.tie < tie;
+        return node.id < id;
+    }
+
+    private int randomLevel() {
+        int nodeLevel = 1;
+        while (nodeLevel < MAX_LEVEL && random.nextInt(4) == 0) nodeLevel++;
+        return nodeLevel;
+    }
+
+    private static final class Node {
+        final double key;
+        final long tie;
+        final long id;
+        final Node[] next;
+        final int[] span;
+
+        Node(double key, long tie, long id, int level) {
+            this.key = key;
+            this.tie = tie;
+            this.id = id;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+}
@@ -1,13 +1,27 @@
 package org.example.dsa_proj.Service;
 
+import org.example.dsa_proj.Models.RoomType;
 import org.example.dsa_proj.Models.Student;
 import org.example.dsa_proj.Models.WaitList;
+import org.example.dsa_proj.Models.WaitlistRow;
+import org.example.dsa_proj.Rep.StudentRepo;
 import org.example.dsa_proj.Rep.waitlist;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class waitlistservice {
@@ -15,31 +29,98 @@ public class waitlistservice {
     @Autowired
     private waitlist waitRepo;
 
+    @Autowired
+    private StudentRepo studentRepo;
+
+    @Autowired
+    private WaitlistEngine waitlistEngine;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${waitlist.removal.chunk-size:500}")
+    private int removalChunkSize;
+
     // ✅ Get all waitlist entries
     public List<WaitList> getAll() {
         return waitRepo.findAll();
     }
 
-    // ✅ Get all students waiting for a specific room type, ordered by priority
-    public List<Student> getWaitingStudentsByRoomType(String roomType) {
-        return waitRepo.findByPreferredRoomTypeOrderByPriorityScoreDesc(roomType)
-                .stream()
-                .map(WaitList::getStudent)
-                .collect(java.util.stream.Collectors.toList());
+    // ✅ One keyset page in queue order; pass the last entry's priority key and ID of the previous page, or nulls
+    public Slice<WaitlistRow> getPage(Double afterKey, Long afterId, RoomType roomType, int size) {
+        if (afterKey == null || afterId == null) {
+            return waitRepo.findFirstPage(roomType, KeysetPages.limit(size));
+        }
+        return waitRepo.findPageAfter(afterKey, afterId, roomType, KeysetPages.limit(size));
     }
 
-    // ✅ Add student to waitlist
-    public void addToWaitlist(Student s, String roomType, double score) {
+    // ✅ Get the top students waiting for a specific room type, ordered by priority
+    public List<Student> getWaitingStudentsByRoomType(RoomType roomType, int limit) {
+        List<Long> ids = waitlistEngine.peekTop(roomType, limit);
+        Map<Long, Student> byId = studentRepo.findAllById(ids).stream()
+                .collect(Collectors.toMap(Student::getStudentId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    // ✅ Get IDs of the top students waiting for a room type, served from the in-memory heap
+    public List<Long> getWaitingStudentIdsByRoomType(RoomType roomType, int limit) {
+        return waitlistEngine.peekTop(roomType, limit);
+    }
+
+    // ✅ Add student to waitlist with today's priority score; it ages from here
+    public void addToWaitlist(Student s, RoomType roomType, double score) {
         WaitList w = new WaitList();
         w.setStudent(s);
         w.setPreferredRoomType(roomType);
         w.setPriorityScore(score);
         w.setWaitingSince(LocalDate.now());
         waitRepo.save(w);
+        waitlistEngine.offerAfterCommit(s.getStudentId(), roomType, w.getPriorityKey(), w.getWaitId());
+        eventPublisher.publishEvent(new WaitlistChangedEvent(roomType, 1));
+    }
+
+    // ✅ Change a student's priority score as of today
+    public void updatePriority(Long studentId, double score) {
+        waitRepo.findByStudent_StudentId(studentId).ifPresent(w -> {
+            w.setPriorityScore(score);
+            waitRepo.save(w);
+            waitlistEngine.updatePriorityAfterCommit(studentId, w.getPriorityKey());
+        });
     }
 
     // ✅ Remove student from waitlist
     public void removeFromWaitlist(Student s) {
-        waitRepo.deleteByStudent(s);
+        removeFromWaitlistByIds(Collections.singletonList(s.getStudentId()));
+    }
+
+    // ✅ Remove many students from the waitlist
+    public int removeFromWaitlist(Collection<Student> students) {
+        return removeFromWaitlistByIds(students.stream().map(Student::getStudentId).collect(Collectors.toList()));
+    }
+
+    // ✅ Remove students by ID with one DELETE ... IN per chunk; no entries are loaded. Returns entries removed
+    @Transactional
+    public int removeFromWaitlistByIds(Collection<Long> studentIds) {
+        List<Long> ids = studentIds.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        if (ids.isEmpty()) return 0;
+
+        // Room types are read from the engine before it drops the entries
+        Map<RoomType, Integer> removedByType = new EnumMap<>(RoomType.class);
+        for (Long id : ids) {
+            RoomType roomType = waitlistEngine.getRoomType(id);
+            if (roomType != null) removedByType.merge(roomType, 1, Integer::sum);
+        }
+
+        int chunkSize = Math.max(1, removalChunkSize);
+        int removed = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            removed += waitRepo.deleteByStudentIds(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+        waitlistEngine.removeAfterCommit(ids);
+        removedByType.forEach((type, count) -> eventPublisher.publishEvent(new WaitlistChangedEvent(type, -count)));
+        return removed;
     }
 }
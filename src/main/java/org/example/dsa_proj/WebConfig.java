@@ -0,0 +1,34 @@
+package org.example.dsa_proj;
+
+import org.example.dsa_proj.Models.CodedEnum;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.converter.ConverterFactory;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Web data binding.
+ *
+ * Request parameters and form fields bind to status and type enums by label
+ * ("Processing Allocation") or constant name, ignoring case, so existing
+ * links and forms keep working. A blank value binds to null and an unknown
+ * one is rejected with 400 Bad Request.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverterFactory(new StringToCodedEnum());
+    }
+
+    private static final class StringToCodedEnum implements ConverterFactory<String, CodedEnum> {
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public <T extends CodedEnum> Converter<String, T> getConverter(Class<T> targetType) {
+            return text -> (T) CodedEnum.parse((Class) targetType, text);
+        }
+    }
+}
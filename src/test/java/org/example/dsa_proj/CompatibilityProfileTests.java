@@ -0,0 +1,93 @@
+package org.example.dsa_proj;
+
+import org.example.dsa_proj.Models.Preference;
+import org.example.dsa_proj.Models.Student;
+import org.example.dsa_proj.Service.CompatibilityProfile;
+import org.example.dsa_proj.Service.StudentService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that the bit-packed profile scores every pair exactly as the entity
+ * methods do: StudentService.calculateCompatibility plus
+ * Preference.calculateCompatibilityScore, on random students with nulls,
+ * mixed case, wildcards and missing Preference rows.
+ */
+class CompatibilityProfileTests {
+
+    // Student fields compare case-insensitively, so case variants must still match
+    private static final String[] GENDERS = {"Male", "male", "FEMALE", "Female", "Other", "", null};
+    private static final String[] BRANCHES = {"Computer Science", "computer science", "Civil", "CIVIL", "Mechanical", null};
+    private static final String[] TYPES = {"Studious", "studious", "Social", "Quiet", "Gaming", null};
+
+    // Preference fields compare case-sensitively; only the exact "Flexible" / "Any" are wildcards
+    private static final String[] STUDY = {"Morning", "Afternoon", "Evening", "Night", "Flexible", "flexible", "morning", null};
+    private static final String[] SLEEP = {"Early", "Normal", "Late", "Very Late", "Flexible", "FLEXIBLE", null};
+    private static final String[] NOISE = {"Quiet", "Moderate", "Social", "Very Social", "quiet", null};
+    private static final String[] CLEAN = {"Very Clean", "Clean", "Normal", "Flexible", "flexible", null};
+    private static final String[] GENDER_PREF = {"Same", "Different", "Any", "any", null};
+
+    private final StudentService studentService = new StudentService();
+
+    @Test
+    void scoreMatchesEntityMethods() {
+        Random random = new Random(17);
+        for (int i = 0; i < 200_000; i++) {
+            Student sa = randomStudent(random);
+            Student sb = randomStudent(random);
+            Preference pa = random.nextInt(5) == 0 ? null : randomPreference(random);
+            Preference pb = random.nextInt(5) == 0 ? null : randomPreference(random);
+
+            int expected = studentService.calculateCompatibility(sa, sb)
+                    + (pa == null ? 0 : pa.calculateCompatibilityScore(pb));
+            assertEquals(expected, profile(sa, pa).score(profile(sb, pb)),
+                    () -> describe(sa, pa) + " vs " + describe(sb, pb));
+        }
+    }
+
+    private static Student randomStudent(Random random) {
+        Student s = new Student();
+        s.setGender(pick(random, GENDERS));
+        s.setBranch(pick(random, BRANCHES));
+        s.setPreferenceType(pick(random, TYPES));
+        return s;
+    }
+
+    private static Preference randomPreference(Random random) {
+        Preference p = new Preference();
+        p.setStudyTime(pick(random, STUDY));
+        p.setSleepTime(pick(random, SLEEP));
+        p.setNoiseLevelPreference(pick(random, NOISE));
+        p.setCleanlinessLevel(pick(random, CLEAN));
+        p.setRoommateGenderPreference(pick(random, GENDER_PREF));
+        return p;
+    }
+
+    /**
+     * Profile built from the same projection row shape the repositories return
+     */
+    private static CompatibilityProfile profile(Student s, Preference p) {
+        return CompatibilityProfile.fromRow(new Object[] {
+                s.getGender(), s.getBranch(), s.getPreferenceType(),
+                p == null ? null : 1L,
+                p == null ? null : p.getStudyTime(),
+                p == null ? null : p.getSleepTime(),
+                p == null ? null : p.getNoiseLevelPreference(),
+                p == null ? null : p.getCleanlinessLevel(),
+                p == null ? null : p.getRoommateGenderPreference()}, 0);
+    }
+
+    private static String describe(Student s, Preference p) {
+        return "[" + s.getGender() + ", " + s.getBranch() + ", " + s.getPreferenceType() + "; "
+                + (p == null ? "no preference" : p.getStudyTime() + ", " + p.getSleepTime() + ", "
+                + p.getNoiseLevelPreference() + ", " + p.getCleanlinessLevel() + ", "
+                + p.getRoommateGenderPreference()) + "]";
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
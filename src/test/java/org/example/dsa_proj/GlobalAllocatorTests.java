@@ -0,0 +1,82 @@
+package org.example.dsa_proj;
+
+import org.example.dsa_proj.Models.RoomType;
+import org.example.dsa_proj.Models.Student;
+import org.example.dsa_proj.Service.AllocationService;
+import org.example.dsa_proj.Service.StudentService;
+import org.example.dsa_proj.Service.waitlistservice;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the campus-wide min-cost flow allocation on a mixed-gender waitlist on
+ * top of the data.sql rows and checks that every room that took a student
+ * holds a single gender.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:global-allocation;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false"
+})
+class GlobalAllocatorTests {
+
+    private static final String[] GENDERS = {"Male", "Female", "Other"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private waitlistservice waitlistService;
+
+    @Autowired
+    private AllocationService allocationService;
+
+    @Test
+    void roomsNeverMixGenders() {
+        long roomId = 100;
+        for (RoomType type : RoomType.values()) {
+            for (int r = 0; r < 4; r++, roomId++) {
+                jdbcTemplate.update("INSERT INTO rooms (room_id, room_number, capacity, occupancy, hostel_block, "
+                        + "room_type, status) VALUES (?, ?, ?, 0, 'T', ?, 1)",
+                        roomId, "T" + roomId, type.getDefaultCapacity(), type.getCode());
+            }
+        }
+        Random random = new Random(9);
+        for (int i = 0; i < 60; i++) {
+            Student s = new Student();
+            s.setName("Student " + i);
+            s.setGender(GENDERS[random.nextInt(GENDERS.length)]);
+            s.setBranch("Computer Science");
+            s.setYear(1 + random.nextInt(4));
+            studentService.saveStudent(s);
+            waitlistService.addToWaitlist(s, RoomType.values()[random.nextInt(RoomType.values().length)],
+                    random.nextInt(100));
+        }
+        Set<Long> before = new HashSet<>(jdbcTemplate.queryForList("SELECT roommate_id FROM roommates", Long.class));
+
+        allocationService.allocateGlobally();
+
+        Set<Long> receivingRooms = new HashSet<>();
+        for (Map<String, Object> row : jdbcTemplate.queryForList("SELECT roommate_id, room_id FROM roommates")) {
+            if (!before.contains(((Number) row.get("ROOMMATE_ID")).longValue())) {
+                receivingRooms.add(((Number) row.get("ROOM_ID")).longValue());
+            }
+        }
+        assertTrue(receivingRooms.size() > 10, "expected the allocation to place students");
+        for (Long room : receivingRooms) {
+            List<String> genders = jdbcTemplate.queryForList("SELECT DISTINCT s.gender FROM roommates r "
+                    + "JOIN students s ON s.student_id = r.student_id "
+                    + "WHERE r.room_id = ? AND r.left_date IS NULL", String.class, room);
+            assertEquals(1, genders.size(), "room " + room + " holds " + genders);
+        }
+    }
+}
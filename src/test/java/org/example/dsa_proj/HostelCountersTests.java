@@ -0,0 +1,71 @@
+package org.example.dsa_proj;
+
+import org.example.dsa_proj.Models.RoomType;
+import org.example.dsa_proj.Models.Student;
+import org.example.dsa_proj.Service.HostelCounters;
+import org.example.dsa_proj.Service.StudentService;
+import org.example.dsa_proj.Service.waitlistservice;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs a reconcile between a transaction's commit and the point its counter
+ * events are applied, and checks the change is counted once.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:hostel-counters;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false"
+})
+class HostelCountersTests {
+
+    @Autowired
+    private HostelCounters counters;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private waitlistservice waitlistService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void reconcileRightAfterCommitCountsOnce() throws InterruptedException {
+        long students = counters.getTotalStudents();
+        long waitlist = counters.getWaitlistSize(RoomType.DOUBLE);
+        Thread reconcile = new Thread(counters::reconcile);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // Registered before the events, so it runs first once the rows are committed
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reconcile.start();
+                    try {
+                        reconcile.join(500);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            Student s = new Student();
+            s.setName("Counted Once");
+            s.setGender("Female");
+            s.setBranch("Civil");
+            s.setYear(1);
+            studentService.saveStudent(s);
+            waitlistService.addToWaitlist(s, RoomType.DOUBLE, 50);
+        });
+        reconcile.join();
+
+        assertEquals(students + 1, counters.getTotalStudents());
+        assertEquals(waitlist + 1, counters.getWaitlistSize(RoomType.DOUBLE));
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.dsa_proj;
+
+import org.example.dsa_proj.Models.Preference;
+import org.example.dsa_proj.Models.Student;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+
+/**
+ * Insert throughput with and without JDBC batching.
+ *
+ * Persists students with one preference each, interleaved as a service would,
+ * once with the session batch size forced to 1 (one round trip per row, which
+ * is what IDENTITY keys used to force) and once with the configured
+ * hibernate.jdbc.batch_size, sequence keys and ordered inserts. Prints rows
+ * per second and JDBC statements for each.
+ *
+ * Not part of the regular test run; start it with
+ * mvn test -Dtest=InsertThroughputBenchmark [-Dbenchmark.rows=20000]
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:insert-benchmark;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class InsertThroughputBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 10000);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void compareUnbatchedAndBatchedInserts() {
+        // Warm up JIT and connection pool
+        run(1, ROWS / 10);
+        run(null, ROWS / 10);
+
+        Result unbatched = run(1, ROWS);
+        Result batched = run(null, ROWS);
+        System.out.println("Insert throughput, " + ROWS + " students + " + ROWS + " preferences");
+        System.out.println("  one row per round trip: " + unbatched);
+        System.out.println("  batched (sequence keys): " + batched);
+        System.out.printf("  speed-up: %.1fx%n", (double) unbatched.elapsedNanos / batched.elapsedNanos);
+    }
+
+    /**
+     * @param batchSize session JDBC batch size, or null for the configured one
+     */
+    private Result run(Integer batchSize, int rows) {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            session.setJdbcBatchSize(batchSize);
+            for (int i = 0; i < rows; i++) {
+                Student student = new Student();
+                student.setName("Benchmark Student " + i);
+                student.setGender(i % 2 == 0 ? "Male" : "Female");
+                student.setBranch("Computer Science");
+                student.setYear(1 + i % 4);
+                student.setRoomTypePreference("Double");
+                entityManager.persist(student);
+
+                Preference preference = new Preference();
+                preference.setStudent(student);
+                preference.setStudyTime("Morning");
+                preference.setSleepTime("Early");
+                preference.setInterests("Reading, Coding");
+                entityManager.persist(preference);
+
+                if ((i + 1) % 500 == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+        return new Result(rows * 2L, System.nanoTime() - start, stats.getPrepareStatementCount());
+    }
+
+    private static final class Result {
+        final long rows;
+        final long elapsedNanos;
+        final long statements;
+
+        Result(long rows, long elapsedNanos, long statements) {
+            this.rows = rows;
+            this.elapsedNanos = elapsedNanos;
+            this.statements = statements;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%,d rows in %,d ms (%,.0f rows/s), %,d JDBC statements",
+                    rows, elapsedNanos / 1_000_000, rows * 1e9 / elapsedNanos, statements);
+        }
+    }
+}
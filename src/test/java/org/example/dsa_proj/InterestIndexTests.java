@@ -0,0 +1,42 @@
+package org.example.dsa_proj;
+
+import org.example.dsa_proj.Service.InterestIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Checks that the one-pass overlap of a student with everyone else agrees
+ * with the pairwise IDF-weighted overlap on random interest sets.
+ */
+class InterestIndexTests {
+
+    private static final String[] INTERESTS = {"reading", "coding", "music", "chess", "football",
+            "cooking", "gaming", "painting", "hiking", "movies"};
+
+    @Test
+    void overlapsMatchPairwiseOverlap() {
+        Random random = new Random(5);
+        InterestIndex index = new InterestIndex();
+        long students = 200;
+        for (long id = 1; id <= students; id++) {
+            Set<String> tokens = new HashSet<>();
+            int count = random.nextInt(4);
+            for (int i = 0; i < count; i++) tokens.add(INTERESTS[random.nextInt(INTERESTS.length)]);
+            index.set(id, tokens);
+        }
+
+        for (long a = 1; a <= students; a++) {
+            Map<Long, Double> overlaps = index.weightedOverlaps(a);
+            assertFalse(overlaps.containsKey(a), "student " + a + " overlaps itself");
+            for (long b = 1; b <= students; b++) {
+                if (a == b) continue;
+                double expected = index.weightedOverlap(a, b);
+                assertEquals(expected, overlaps.getOrDefault(b, 0.0), 1e-9, a + " vs " + b);
+            }
+        }
+    }
+}
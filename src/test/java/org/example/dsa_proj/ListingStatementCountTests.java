@@ -0,0 +1,77 @@
+package org.example.dsa_proj;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Renders each listing and dashboard view against the data.sql rows and
+ * counts the JDBC statements Hibernate prepares, so a lazy association
+ * touched per row (N+1) fails the build.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-count;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+class ListingStatementCountTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void dashboardReadsOnlyCounters() throws Exception {
+        assertEquals(0, statementsFor("/dashboard"));
+    }
+
+    @Test
+    void adminDashboardLoadsRecentRowsOnce() throws Exception {
+        // recent students, recent rooms
+        assertEquals(2, statementsFor("/admin/dashboard"));
+    }
+
+    @Test
+    void studentPagesAreOneQuery() throws Exception {
+        assertEquals(1, statementsFor("/hostel/students"));
+        assertEquals(1, statementsFor("/hostel/students?status=Allocated&block=A"));
+        assertEquals(1, statementsFor("/hostel/students?after=3&size=3"));
+    }
+
+    @Test
+    void adminStudentPageIsOneQueryPlusRoomChoices() throws Exception {
+        assertEquals(2, statementsFor("/admin/students"));
+    }
+
+    @Test
+    void roomPagesAreOneQuery() throws Exception {
+        assertEquals(1, statementsFor("/hostel/rooms"));
+        assertEquals(1, statementsFor("/rooms?status=Available"));
+    }
+
+    @Test
+    void waitlistPageIsOneQueryPlusSummary() throws Exception {
+        assertEquals(2, statementsFor("/hostel/waitlist"));
+        assertEquals(2, statementsFor("/hostel/waitlist?roomType=Double"));
+    }
+
+    private long statementsFor(String url) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+}
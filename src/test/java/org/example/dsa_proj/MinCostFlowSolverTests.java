@@ -0,0 +1,85 @@
+package org.example.dsa_proj;
+
+import org.example.dsa_proj.Service.MinCostFlowSolver;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the solver against brute force on small instances: it must place as
+ * many students as possible and, among those placements, reach the lowest
+ * total cost without exceeding any room type's beds.
+ */
+class MinCostFlowSolverTests {
+
+    private static final double INF = Double.POSITIVE_INFINITY;
+
+    @Test
+    void matchesBruteForce() {
+        Random random = new Random(3);
+        for (int round = 0; round < 300; round++) {
+            int types = 1 + random.nextInt(3);
+            int students = 1 + random.nextInt(7);
+            int[] beds = new int[types];
+            for (int t = 0; t < types; t++) beds[t] = random.nextInt(4);
+            double[][] costs = new double[students][types];
+            for (int i = 0; i < students; i++) {
+                for (int t = 0; t < types; t++) {
+                    costs[i][t] = random.nextInt(4) == 0 ? INF : random.nextInt(100);
+                }
+            }
+
+            MinCostFlowSolver solver = new MinCostFlowSolver(beds);
+            for (double[] c : costs) solver.addStudent(c);
+            int[] assigned = solver.solve(System.nanoTime() + 1_000_000_000L);
+            assertFalse(solver.isTimedOut());
+
+            int[] used = new int[types];
+            int placed = 0;
+            double cost = 0;
+            for (int i = 0; i < students; i++) {
+                if (assigned[i] < 0) continue;
+                assertTrue(costs[i][assigned[i]] != INF, "student placed in an unacceptable type");
+                used[assigned[i]]++;
+                placed++;
+                cost += costs[i][assigned[i]];
+            }
+            for (int t = 0; t < types; t++) assertTrue(used[t] <= beds[t], "type over capacity");
+
+            double[] best = bruteForce(costs, beds, 0, new int[types]);
+            assertEquals(best[0], placed, "round " + round + ": not a maximum placement");
+            assertEquals(best[1], cost, 1e-9, "round " + round + ": not the cheapest maximum placement");
+        }
+    }
+
+    @Test
+    void passedDeadlineStopsBeforeAnyPlacement() {
+        MinCostFlowSolver solver = new MinCostFlowSolver(new int[] {1});
+        solver.addStudent(new double[] {1});
+        int[] assigned = solver.solve(System.nanoTime() - 1);
+        assertTrue(solver.isTimedOut());
+        assertEquals(-1, assigned[0]);
+    }
+
+    /**
+     * @return {students placed, total cost}, most placed first, then cheapest
+     */
+    private static double[] bruteForce(double[][] costs, int[] beds, int student, int[] used) {
+        if (student == costs.length) return new double[] {0, 0};
+        double[] best = bruteForce(costs, beds, student + 1, used);
+        for (int t = 0; t < beds.length; t++) {
+            if (costs[student][t] == INF || used[t] == beds[t]) continue;
+            used[t]++;
+            double[] rest = bruteForce(costs, beds, student + 1, used);
+            used[t]--;
+            double placed = rest[0] + 1;
+            double cost = rest[1] + costs[student][t];
+            if (placed > best[0] || (placed == best[0] && cost < best[1])) best = new double[] {placed, cost};
+        }
+        return best;
+    }
+}
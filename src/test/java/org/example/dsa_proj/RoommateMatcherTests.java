@@ -0,0 +1,71 @@
+package org.example.dsa_proj;
+
+import org.example.dsa_proj.Service.CompatibilityProfile;
+import org.example.dsa_proj.Service.RoommateMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the approximate roommate matching returns a valid pairing that
+ * never puts two genders together and leaves at most one student of each
+ * gender unpaired.
+ */
+class RoommateMatcherTests {
+
+    private static final String[] GENDERS = {"Male", "Female", "Other"};
+    private static final String[] STUDY = {"Morning", "Afternoon", "Evening", "Night", "Flexible"};
+    private static final String[] NOISE = {"Quiet", "Moderate", "Social", "Very Social"};
+
+    @Test
+    void pairsNeverMixGenders() {
+        Random random = new Random(7);
+        for (int round = 0; round < 20; round++) {
+            CompatibilityProfile[] profiles = randomProfiles(random, 1 + random.nextInt(300));
+            int[] mate = new RoommateMatcher(profiles).match(3, System.nanoTime() + 1_000_000_000L);
+
+            Map<Long, Integer> unpaired = new HashMap<>();
+            for (int i = 0; i < mate.length; i++) {
+                if (mate[i] < 0) {
+                    unpaired.merge(profiles[i].genderKey(), 1, Integer::sum);
+                    continue;
+                }
+                assertEquals(i, mate[mate[i]], "pairing is not symmetric");
+                assertTrue(mate[i] != i, "student paired with themselves");
+                assertEquals(profiles[i].genderKey(), profiles[mate[i]].genderKey(), "pair mixes genders");
+            }
+            unpaired.values().forEach(count -> assertEquals(1, count, "two students of one gender left unpaired"));
+        }
+    }
+
+    @Test
+    void loneStudentsOfDifferentGendersStayUnpaired() {
+        CompatibilityProfile[] profiles = {
+                profile("Male", "CSE", "quiet", "Night", "Quiet"),
+                profile("Female", "CSE", "quiet", "Night", "Quiet")
+        };
+        int[] mate = new RoommateMatcher(profiles).match(10, System.nanoTime() + 1_000_000_000L);
+        assertEquals(-1, mate[0]);
+        assertEquals(-1, mate[1]);
+    }
+
+    private static CompatibilityProfile[] randomProfiles(Random random, int n) {
+        CompatibilityProfile[] profiles = new CompatibilityProfile[n];
+        for (int i = 0; i < n; i++) {
+            profiles[i] = profile(GENDERS[random.nextInt(GENDERS.length)], "B" + random.nextInt(40),
+                    "P" + random.nextInt(30), STUDY[random.nextInt(STUDY.length)], NOISE[random.nextInt(NOISE.length)]);
+        }
+        return profiles;
+    }
+
+    private static CompatibilityProfile profile(String gender, String branch, String preferenceType,
+                                                String studyTime, String noiseLevel) {
+        return CompatibilityProfile.fromRow(new Object[] {
+                gender, branch, preferenceType, 1L, studyTime, "Normal", noiseLevel, "Clean", "Same"}, 0);
+    }
+}
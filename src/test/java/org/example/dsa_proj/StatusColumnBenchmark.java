@@ -0,0 +1,188 @@
+package org.example.dsa_proj;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Allocation and listing queries on VARCHAR labels versus SMALLINT codes.
+ *
+ * Builds the rooms, students and wait_list tables twice in separate in-memory
+ * H2 databases: once as the old mapping left them (labels such as
+ * "Processing Allocation" in VARCHAR columns, one index per column) and once
+ * as the entities now declare them (SMALLINT codes, a composite index on
+ * room_type + status, no standalone status indexes). Times the queries the allocator and the listing pages
+ * issue against each and prints microseconds per query and the index H2 picked.
+ * The listing query sorts in both layouts: H2 does not read an index in order
+ * past an equality prefix, so only the lookup differs there.
+ *
+ * Plain JDBC, no application context. Not part of the regular test run; start it with
+ * mvn test -Dtest=StatusColumnBenchmark [-Dbenchmark.rows=100000]
+ */
+class StatusColumnBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 100000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 2000);
+
+    private static final String[] TYPE_LABELS = {"Single", "Double", "Triple", "Quad"};
+    private static final String[] ROOM_STATUS_LABELS = {"Available", "Full", "Maintenance", "Reserved"};
+    private static final String[] STUDENT_STATUS_LABELS = {"Waiting", "Processing Allocation", "Allocated", "Left"};
+
+    private static final String ALLOCATION_QUERY =
+            "SELECT room_id, capacity, occupancy FROM rooms WHERE room_type = ? AND status = ?";
+    private static final String LISTING_QUERY =
+            "SELECT student_id, name, status FROM students WHERE status = ? AND student_id > ? "
+                    + "ORDER BY student_id LIMIT 20";
+    private static final String WAITLIST_QUERY =
+            "SELECT wait_id, student_id, priority_key FROM wait_list WHERE preferred_room_type = ?";
+
+    @Test
+    void compareLabelAndCodeColumns() throws SQLException {
+        try (Connection labels = DriverManager.getConnection("jdbc:h2:mem:status-labels", "sa", "");
+             Connection codes = DriverManager.getConnection("jdbc:h2:mem:status-codes", "sa", "")) {
+            populate(labels, false);
+            populate(codes, true);
+
+            System.out.println("Status columns, " + ROWS + " rooms / students / waitlist entries, "
+                    + ITERATIONS + " queries each");
+            for (int pass = 0; pass < 2; pass++) {
+                // First pass warms up JIT and H2's statement cache
+                boolean report = pass == 1;
+                compare("allocation (type + status)", ALLOCATION_QUERY, labels, codes, report,
+                        (ps, i, coded) -> {
+                            set(ps, 1, coded, TYPE_LABELS, i % 4);
+                            set(ps, 2, coded, ROOM_STATUS_LABELS, 0);
+                        });
+                compare("listing keyset (status)", LISTING_QUERY, labels, codes, report,
+                        (ps, i, coded) -> {
+                            set(ps, 1, coded, STUDENT_STATUS_LABELS, i % 4);
+                            ps.setLong(2, (long) i * 37 % ROWS);
+                        });
+                compare("waitlist by type", WAITLIST_QUERY, labels, codes, report,
+                        (ps, i, coded) -> set(ps, 1, coded, TYPE_LABELS, i % 4));
+            }
+        }
+    }
+
+    private void compare(String name, String sql, Connection labels, Connection codes, boolean report,
+                         Binder binder) throws SQLException {
+        long labelNanos = time(labels, sql, binder, false);
+        long codeNanos = time(codes, sql, binder, true);
+        if (!report) return;
+        System.out.println("  " + name);
+        System.out.printf("    VARCHAR labels: %,8.1f us/query  %s%n", labelNanos / 1e3 / ITERATIONS, plan(labels, sql, binder, false));
+        System.out.printf("    SMALLINT codes: %,8.1f us/query  %s%n", codeNanos / 1e3 / ITERATIONS, plan(codes, sql, binder, true));
+        System.out.printf("    speed-up: %.1fx%n", (double) labelNanos / codeNanos);
+    }
+
+    private long time(Connection connection, String sql, Binder binder, boolean coded) throws SQLException {
+        long rows = 0;
+        long start = System.nanoTime();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 0; i < ITERATIONS; i++) {
+                binder.bind(ps, i, coded);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) rows++;
+                }
+            }
+        }
+        if (rows == 0) throw new IllegalStateException("Benchmark query returned no rows: " + sql);
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * @return the index H2 chose, from the first line of EXPLAIN that names one
+     */
+    private String plan(Connection connection, String sql, Binder binder, boolean coded) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + sql)) {
+            binder.bind(ps, 1, coded);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                for (String line : rs.getString(1).split("\n")) {
+                    if (line.contains("/*")) return line.trim();
+                }
+                return "";
+            }
+        }
+    }
+
+    private static void set(PreparedStatement ps, int index, boolean coded, String[] labels, int ordinal)
+            throws SQLException {
+        if (coded) ps.setShort(index, (short) (ordinal + 1));
+        else ps.setString(index, labels[ordinal]);
+    }
+
+    private void populate(Connection connection, boolean coded) throws SQLException {
+        String column = coded ? "SMALLINT" : "VARCHAR(25)";
+        try (Statement s = connection.createStatement()) {
+            s.execute("CREATE TABLE rooms (room_id BIGINT PRIMARY KEY, room_number VARCHAR(10) NOT NULL, "
+                    + "capacity INT NOT NULL, occupancy INT NOT NULL, hostel_block VARCHAR(1) NOT NULL, "
+                    + "room_type " + column + " NOT NULL, status " + column + " NOT NULL)");
+            s.execute("CREATE INDEX idx_room_status_id ON rooms (status, room_id)");
+            s.execute("CREATE TABLE students (student_id BIGINT PRIMARY KEY, name VARCHAR(100) NOT NULL, "
+                    + "status " + column + " NOT NULL)");
+            s.execute("CREATE INDEX idx_student_status_id ON students (status, student_id)");
+            s.execute("CREATE TABLE wait_list (wait_id BIGINT PRIMARY KEY, student_id BIGINT NOT NULL, "
+                    + "preferred_room_type " + column + ", priority_key DOUBLE PRECISION NOT NULL)");
+            s.execute("CREATE INDEX idx_waitlist_room_type ON wait_list (preferred_room_type)");
+            s.execute("CREATE INDEX idx_waitlist_type_priority ON wait_list "
+                    + "(preferred_room_type, priority_key DESC, wait_id)");
+            if (coded) {
+                s.execute("CREATE INDEX idx_room_type_status ON rooms (room_type, status)");
+            } else {
+                s.execute("CREATE INDEX idx_room_status ON rooms (status)");
+                s.execute("CREATE INDEX idx_room_type ON rooms (room_type)");
+                s.execute("CREATE INDEX idx_student_status ON students (status)");
+            }
+        }
+        try (PreparedStatement room = connection.prepareStatement("INSERT INTO rooms VALUES (?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement student = connection.prepareStatement("INSERT INTO students VALUES (?, ?, ?)");
+             PreparedStatement entry = connection.prepareStatement("INSERT INTO wait_list VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= ROWS; i++) {
+                int type = i % 4;
+                room.setLong(1, i);
+                room.setString(2, "R" + i);
+                room.setInt(3, type + 1);
+                room.setInt(4, i % (type + 2));
+                room.setString(5, String.valueOf((char) ('A' + i % 8)));
+                set(room, 6, coded, TYPE_LABELS, type);
+                // Mostly full rooms, as late in an allocation run
+                set(room, 7, coded, ROOM_STATUS_LABELS, i % 10 == 0 ? 0 : i % 50 == 1 ? 2 : 1);
+                room.addBatch();
+
+                student.setLong(1, i);
+                student.setString(2, "Student " + i);
+                set(student, 3, coded, STUDENT_STATUS_LABELS, i % 7 < 4 ? 2 : i % 7 == 6 ? 3 : i % 2);
+                student.addBatch();
+
+                entry.setLong(1, i);
+                entry.setLong(2, i);
+                set(entry, 3, coded, TYPE_LABELS, (i / 3) % 4);
+                entry.setDouble(4, (i * 7919L) % 10000 / 100.0);
+                entry.addBatch();
+
+                if (i % 1000 == 0) {
+                    room.executeBatch();
+                    student.executeBatch();
+                    entry.executeBatch();
+                }
+            }
+            room.executeBatch();
+            student.executeBatch();
+            entry.executeBatch();
+        }
+        try (Statement s = connection.createStatement()) {
+            s.execute("ANALYZE");
+        }
+    }
+
+    @FunctionalInterface
+    private interface Binder {
+        void bind(PreparedStatement ps, int iteration, boolean coded) throws SQLException;
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.dsa_proj;
+
+import org.example.dsa_proj.Models.RoomType;
+import org.example.dsa_proj.Models.Student;
+import org.example.dsa_proj.Models.WaitlistRow;
+import org.example.dsa_proj.Service.StudentService;
+import org.example.dsa_proj.Service.WaitlistEngine;
+import org.example.dsa_proj.Service.waitlistservice;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Queues students with many equal priority scores, in an order unrelated to
+ * their student IDs, and checks that the in-memory heap and rank index serve
+ * them in the same order as the keyset listing, before and after a reload.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:waitlist-order;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false"
+})
+class WaitlistOrderTests {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private waitlistservice waitlistService;
+
+    @Autowired
+    private WaitlistEngine waitlistEngine;
+
+    @Test
+    void engineOrderMatchesListing() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Student s = new Student();
+            s.setName("Queued " + i);
+            s.setGender("Male");
+            s.setBranch("Civil");
+            s.setYear(2);
+            students.add(studentService.saveStudent(s));
+        }
+        // Entry IDs follow this shuffled order, not the student IDs
+        Random random = new Random(4);
+        Collections.shuffle(students, random);
+        for (Student s : students) {
+            waitlistService.addToWaitlist(s, random.nextBoolean() ? RoomType.DOUBLE : RoomType.TRIPLE,
+                    random.nextInt(3) * 10);
+        }
+
+        assertSameOrder();
+        waitlistEngine.reload();
+        assertSameOrder();
+    }
+
+    private void assertSameOrder() {
+        for (RoomType type : RoomType.values()) {
+            List<Long> listed = listing(type);
+            assertEquals(listed, waitlistService.getWaitingStudentIdsByRoomType(type, Integer.MAX_VALUE),
+                    type + " heap order");
+            for (int i = 0; i < listed.size(); i++) {
+                assertEquals(i + 1, waitlistEngine.getPosition(listed.get(i)).getPosition(),
+                        type + " position of " + listed.get(i));
+            }
+        }
+    }
+
+    private List<Long> listing(RoomType type) {
+        List<Long> ids = new ArrayList<>();
+        Slice<WaitlistRow> page = waitlistService.getPage(null, null, type, 7);
+        while (true) {
+            page.forEach(row -> ids.add(row.getStudentId()));
+            if (!page.hasNext()) return ids;
+            WaitlistRow last = page.getContent().get(page.getNumberOfElements() - 1);
+            page = waitlistService.getPage(last.getPriorityKey(), last.getWaitId(), type, 7);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.dsa_proj;
+
+import org.example.dsa_proj.Service.WaitlistRankIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the skip list positions against a sorted list rebuilt by brute force
+ * after random inserts, priority changes and removals.
+ */
+class WaitlistRankIndexTests {
+
+    private static final int OPERATIONS = 200_000;
+    private static final int STUDENTS = 2_000;
+
+    // Queue order: priority key descending, then lower tie-break, then lower student ID
+    private static final Comparator<Map.Entry<Long, double[]>> QUEUE_ORDER =
+            Comparator.comparing((Map.Entry<Long, double[]> e) -> e.getValue()[0]).reversed()
+                    .thenComparing(e -> e.getValue()[1])
+                    .thenComparing(Map.Entry::getKey);
+
+    @Test
+    void ranksMatchBruteForce() {
+        Random random = new Random(11);
+        WaitlistRankIndex index = new WaitlistRankIndex();
+        // Student ID -> {priority key, tie-break}
+        Map<Long, double[]> model = new HashMap<>();
+
+        for (int op = 0; op < OPERATIONS; op++) {
+            long id = random.nextInt(STUDENTS);
+            int kind = random.nextInt(10);
+            if (kind < 4) {
+                // Few distinct keys and tie-breaks, so ties on both are common
+                double key = random.nextInt(50);
+                long tie = random.nextInt(20);
+                index.put(id, key, tie);
+                model.put(id, new double[] {key, tie});
+            } else if (kind < 5) {
+                double key = random.nextInt(50);
+                double[] entry = model.get(id);
+                assertEquals(entry != null, index.updatePriority(id, key), "update " + id);
+                if (entry != null) entry[0] = key;
+            } else if (kind < 8) {
+                assertEquals(model.remove(id) != null, index.remove(id), "remove " + id);
+            } else if (kind < 9) {
+                assertEquals(expectedRank(model, id), index.rank(id), "rank of " + id + " after " + op);
+            } else if (random.nextInt(5_000) == 0) {
+                index.clear();
+                model.clear();
+            }
+            assertEquals(model.size(), index.size());
+
+            if (op % 10_000 == 0) {
+                List<Map.Entry<Long, double[]>> order = new ArrayList<>(model.entrySet());
+                order.sort(QUEUE_ORDER);
+                for (int i = 0; i < order.size(); i++) {
+                    assertEquals(i + 1, index.rank(order.get(i).getKey()), "rank after " + op);
+                }
+            }
+        }
+    }
+
+    @Test
+    void missingStudentHasNoRank() {
+        WaitlistRankIndex index = new WaitlistRankIndex();
+        index.put(1, 10, 1);
+        index.remove(1);
+        assertEquals(0, index.rank(1));
+        assertEquals(0, index.size());
+    }
+
+    private static int expectedRank(Map<Long, double[]> model, long id) {
+        double[] entry = model.get(id);
+        if (entry == null) return 0;
+        Map.Entry<Long, double[]> target = new AbstractMap.SimpleEntry<>(id, entry);
+        int rank = 1;
+        for (Map.Entry<Long, double[]> e : model.entrySet()) {
+            if (QUEUE_ORDER.compare(e, target) < 0) rank++;
+        }
+        return rank;
+    }
+}